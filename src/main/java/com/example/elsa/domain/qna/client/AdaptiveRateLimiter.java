@@ -0,0 +1,212 @@
+package com.example.elsa.domain.qna.client;
+
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.example.elsa.global.common.ContextPropagatingTaskDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 제공자 하나에 대한 요청 제어기입니다.
+ * <p>
+ * 분당 요청 수와 분당 토큰 수를 토큰 버킷으로 제한하고, 동시 실행 수는 AIMD 방식으로 조절합니다.
+ * 성공하면 동시 실행 창을 조금씩 늘리고, 429/5xx/타임아웃이 발생하면 절반으로 줄입니다.
+ * 호출자는 모든 요청을 한 번에 제출하면 되며, 대기 중인 요청은 스레드를 점유하지 않고 큐에서 기다립니다.
+ * 큐에서 꺼낸 요청은 드레인한 스레드(스케줄러, 다른 요청의 완료 스레드)와 관계없이 제출한 요청의 MDC와 Observation으로 실행합니다.
+ */
+@Slf4j
+public class AdaptiveRateLimiter {
+
+	// 동시에 몰린 실패로 창이 한 번에 바닥까지 줄어들지 않도록 감소 사이에 두는 최소 간격
+	private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final String provider;
+	private final ScheduledExecutorService scheduler;
+	private final ContextPropagatingTaskDecorator contextPropagation;
+	private final TokenBucket requestBucket;
+	private final TokenBucket tokenBucket;
+	private final int minConcurrency;
+	private final int maxConcurrency;
+
+	private final Deque<Pending<?>> queue = new ArrayDeque<>();
+	private double concurrencyWindow;
+	private int inFlight;
+	private long lastDecreaseNanos;
+	private boolean drainScheduled;
+
+	public AdaptiveRateLimiter(String provider, ScheduledExecutorService scheduler,
+		ContextPropagatingTaskDecorator contextPropagation, int requestsPerMinute, int tokensPerMinute,
+		int initialConcurrency, int maxConcurrency) {
+		this.provider = provider;
+		this.scheduler = scheduler;
+		this.contextPropagation = contextPropagation;
+		this.requestBucket = new TokenBucket(requestsPerMinute);
+		this.tokenBucket = new TokenBucket(tokensPerMinute);
+		this.minConcurrency = 1;
+		this.maxConcurrency = maxConcurrency;
+		this.concurrencyWindow = Math.max(1, Math.min(initialConcurrency, maxConcurrency));
+	}
+
+	/**
+	 * 요청 한도와 동시 실행 창이 허락할 때 call을 실행합니다.
+	 *
+	 * @param estimatedTokens 요청과 응답을 합친 예상 토큰 수
+	 */
+	public <T> CompletableFuture<T> submit(int estimatedTokens, Supplier<CompletableFuture<T>> call) {
+		Pending<T> pending = new Pending<>(Math.max(1, estimatedTokens), call, contextPropagation.capture());
+		synchronized (this) {
+			queue.add(pending);
+		}
+		drain();
+		return pending.result;
+	}
+
+	private void drain() {
+		List<Pending<?>> ready = new ArrayList<>();
+		synchronized (this) {
+			while (!queue.isEmpty() && inFlight < (int)concurrencyWindow) {
+				Pending<?> next = queue.peek();
+				long now = System.nanoTime();
+				long waitNanos = Math.max(requestBucket.nanosUntilAvailable(1, now),
+					tokenBucket.nanosUntilAvailable(next.tokens, now));
+				if (waitNanos > 0) {
+					// 버킷이 다시 찰 때까지 스레드를 재우지 않고 다음 드레인을 예약
+					if (!drainScheduled) {
+						drainScheduled = true;
+						scheduler.schedule(this::scheduledDrain, waitNanos, TimeUnit.NANOSECONDS);
+					}
+					break;
+				}
+				requestBucket.take(1, now);
+				tokenBucket.take(next.tokens, now);
+				queue.poll();
+				inFlight++;
+				ready.add(next);
+			}
+		}
+		ready.forEach(this::dispatch);
+	}
+
+	private void scheduledDrain() {
+		synchronized (this) {
+			drainScheduled = false;
+		}
+		drain();
+	}
+
+	private <T> void dispatch(Pending<T> pending) {
+		CompletableFuture<T> call;
+		try {
+			call = pending.context.call(pending.call);
+		} catch (Throwable e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+
+		call.whenComplete((result, e) -> {
+			onComplete(e);
+			if (e != null) {
+				pending.result.completeExceptionally(e);
+			} else {
+				pending.result.complete(result);
+			}
+		});
+	}
+
+	private void onComplete(Throwable e) {
+		synchronized (this) {
+			inFlight--;
+			if (e != null && isOverloadSignal(e)) {
+				long now = System.nanoTime();
+				if (now - lastDecreaseNanos > DECREASE_COOLDOWN_NANOS) {
+					concurrencyWindow = Math.max(minConcurrency, concurrencyWindow / 2);
+					lastDecreaseNanos = now;
+					log.warn("{} overloaded, concurrency window decreased to {}", provider, (int)concurrencyWindow);
+				}
+			} else if (e == null) {
+				// 창 하나 분량이 모두 성공하면 1 증가
+				concurrencyWindow = Math.min(maxConcurrency, concurrencyWindow + 1.0 / concurrencyWindow);
+			}
+		}
+		drain();
+	}
+
+	private static boolean isOverloadSignal(Throwable e) {
+		while (e instanceof CompletionException && e.getCause() != null) {
+			e = e.getCause();
+		}
+		if (e instanceof LLMApiException apiException) {
+			return apiException.isRetryable();
+		}
+		return e instanceof HttpTimeoutException;
+	}
+
+	public synchronized int getConcurrencyWindow() {
+		return (int)concurrencyWindow;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	public synchronized int getQueued() {
+		return queue.size();
+	}
+
+	private static final class Pending<T> {
+		private final int tokens;
+		private final Supplier<CompletableFuture<T>> call;
+		private final ContextPropagatingTaskDecorator.Snapshot context;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private Pending(int tokens, Supplier<CompletableFuture<T>> call, ContextPropagatingTaskDecorator.Snapshot context) {
+			this.tokens = tokens;
+			this.call = call;
+			this.context = context;
+		}
+	}
+
+	/**
+	 * 분당 한도만큼 채워지는 토큰 버킷. 호출자가 동기화를 책임집니다.
+	 */
+	private static final class TokenBucket {
+		private final double capacity;
+		private final double refillPerNano;
+		private double available;
+		private long lastRefillNanos;
+
+		private TokenBucket(int perMinute) {
+			this.capacity = perMinute;
+			this.refillPerNano = perMinute / (double)TimeUnit.MINUTES.toNanos(1);
+			this.available = perMinute;
+			this.lastRefillNanos = System.nanoTime();
+		}
+
+		private void refill(long now) {
+			available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+			lastRefillNanos = now;
+		}
+
+		private long nanosUntilAvailable(int amount, long now) {
+			refill(now);
+			double required = Math.min(amount, capacity);
+			if (available >= required) {
+				return 0;
+			}
+			return (long)Math.ceil((required - available) / refillPerNano);
+		}
+
+		private void take(int amount, long now) {
+			refill(now);
+			available -= Math.min(amount, capacity);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini generateContent 제공자입니다. API 키는 URL 쿼리 파라미터로 전달합니다.
+ */
+@Slf4j
+@Component
+public class GeminiProvider implements LLMProvider {
+
+	// 1M 토큰당 USD
+	private static final double INPUT_PRICE = 0.5;
+	private static final double OUTPUT_PRICE = 1.5;
+
+	private final LLMHttpClient geminiHttpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${gemini.api.url}")
+	private String geminiApiUrl;
+
+	@Value("${gemini.api.key}")
+	private String geminiApiKey;
+
+	public GeminiProvider(@Qualifier("geminiHttpClient") LLMHttpClient geminiHttpClient) {
+		this.geminiHttpClient = geminiHttpClient;
+	}
+
+	@Override
+	public String getName() {
+		return "gemini";
+	}
+
+	@Override
+	public boolean supports(LLMModel model) {
+		return model.getProviderType() == LLMProviderType.GEMINI;
+	}
+
+	@Override
+	public CompletableFuture<String> submit(LLMModel model, String prompt, int maxTokens) {
+		String body;
+		try {
+			body = requestBody(prompt);
+			log.debug("Request body: {}", body);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		return geminiHttpClient.postJson(geminiApiUrl + "?key=" + geminiApiKey, body)
+			.thenApply(responseBody -> {
+				log.debug("Raw Gemini API response: {}", responseBody);
+				String text = firstCandidateText(readTree(responseBody)).trim();
+				return text.isEmpty() ? null : text;
+			});
+	}
+
+	@Override
+	public CompletableFuture<Void> stream(LLMModel model, String prompt, int maxTokens, Consumer<String> onDelta) {
+		String body;
+		try {
+			body = requestBody(prompt);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		String url = geminiApiUrl.replace(":generateContent", ":streamGenerateContent") + "?alt=sse&key=" + geminiApiKey;
+		return geminiHttpClient.streamLines(url, body, line -> SseLines.data(line, objectMapper)
+			.map(this::firstCandidateText)
+			.filter(delta -> !delta.isEmpty())
+			.ifPresent(onDelta));
+	}
+
+	@Override
+	public Optional<LLMBatchProvider> batch() {
+		return Optional.empty();
+	}
+
+	@Override
+	public boolean isHealthy() {
+		return geminiApiKey != null && !geminiApiKey.isBlank();
+	}
+
+	@Override
+	public double estimateCost(LLMModel model, int inputTokens, int outputTokens) {
+		return (inputTokens * INPUT_PRICE + outputTokens * OUTPUT_PRICE) / 1_000_000;
+	}
+
+	private String requestBody(String prompt) throws JsonProcessingException {
+		ObjectNode request = objectMapper.createObjectNode();
+		request.putArray("contents").addObject().putArray("parts").addObject().put("text", prompt);
+		return objectMapper.writeValueAsString(request);
+	}
+
+	private String firstCandidateText(JsonNode response) {
+		return response.path("candidates").path(0).path("content").path("parts").path(0).path("text").asText("");
+	}
+
+	private JsonNode readTree(String json) {
+		try {
+			return objectMapper.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new CompletionException(e);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.example.elsa.domain.qna.client;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * LLM 제공자 API가 2xx 이외의 상태 코드를 반환했을 때 발생하는 예외입니다.
+ */
+@Getter
+public class LLMApiException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String provider;
+	private final int statusCode;
+	private final Duration retryAfter;
+	private final String responseBody;
+
+	public LLMApiException(String provider, int statusCode, Duration retryAfter, String responseBody) {
+		super(provider + " API responded with status " + statusCode + ": " + responseBody);
+		this.provider = provider;
+		this.statusCode = statusCode;
+		this.retryAfter = retryAfter;
+		this.responseBody = responseBody;
+	}
+
+	// 429(요청 한도 초과)와 5xx는 일시적인 오류로 간주, 단 할당량 소진(insufficient_quota)은 기다려도 회복되지 않음
+	public boolean isRetryable() {
+		if (isQuotaExhausted()) {
+			return false;
+		}
+		return statusCode == 429 || statusCode >= 500;
+	}
+
+	public boolean isQuotaExhausted() {
+		return responseBody != null && responseBody.contains("insufficient_quota");
+	}
+}
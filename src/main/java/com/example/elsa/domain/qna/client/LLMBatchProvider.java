@@ -0,0 +1,34 @@
+package com.example.elsa.domain.qna.client;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+/**
+ * 오프라인 일괄 생성을 처리하는 제공자입니다.
+ * <p>
+ * 입력 파일은 OpenAI Batch API 형식의 JSONL로, 한 줄이 요청 하나입니다.
+ * <pre>{"custom_id": "...", "method": "POST", "url": "/v1/chat/completions", "body": {ChatRequest}}</pre>
+ * 결과는 custom_id별 응답 텍스트로 돌려주며, 실패한 요청은 결과에서 빠집니다.
+ */
+public interface LLMBatchProvider {
+
+	String getName();
+
+	boolean supports(LLMModel model);
+
+	/**
+	 * @return 제공자가 부여한 배치 ID
+	 */
+	CompletableFuture<String> submit(Path requestFile);
+
+	/**
+	 * @return IN_PROGRESS, COMPLETED, FAILED 중 하나
+	 */
+	CompletableFuture<LLMBatchStatus> poll(String batchId);
+
+	CompletableFuture<Map<String, String>> results(String batchId);
+}
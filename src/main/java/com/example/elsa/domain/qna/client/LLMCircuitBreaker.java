@@ -0,0 +1,179 @@
+package com.example.elsa.domain.qna.client;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 제공자 하나에 대한 회로 차단기입니다.
+ * <p>
+ * 최근 windowSize개 호출의 실패율과 느린 호출 비율을 추적하여 임계치를 넘으면 열림(OPEN) 상태가 되고,
+ * 열려 있는 동안의 호출은 네트워크를 타지 않고 즉시 실패합니다. openDuration이 지나면 반열림(HALF_OPEN) 상태에서
+ * 제한된 수의 시험 호출을 허용하고, 모두 성공하면 닫힘(CLOSED)으로, 하나라도 실패하면 다시 열림으로 전환합니다.
+ * <p>
+ * 상태가 바뀔 때마다 세대(generation)가 올라가며, 호출 결과는 허가를 받은 세대에서만 집계합니다. 닫힘 상태에서 출발한
+ * 호출이 반열림 중에 끝나도 시험 호출로 세지 않습니다.
+ * <p>
+ * 5xx와 네트워크 오류/타임아웃만 실패로 집계합니다. 429는 요청 제어기가, 4xx는 호출자가 책임집니다.
+ */
+@Slf4j
+public class LLMCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String provider;
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final long slowCallNanos;
+	private final long openNanos;
+	private final int halfOpenPermittedCalls;
+
+	private final boolean[] failures;
+	private final boolean[] slowCalls;
+	private int index;
+	private int recorded;
+	private int failureCount;
+	private int slowCount;
+
+	private State state = State.CLOSED;
+	private long generation;
+	private long openedAtNanos;
+	private int halfOpenInFlight;
+	private int halfOpenSuccesses;
+
+	public LLMCircuitBreaker(String provider, int windowSize, int minimumCalls, double failureRateThreshold,
+		double slowCallRateThreshold, long slowCallNanos, long openNanos, int halfOpenPermittedCalls) {
+		this.provider = provider;
+		this.windowSize = windowSize;
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.slowCallNanos = slowCallNanos;
+		this.openNanos = openNanos;
+		this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+		this.failures = new boolean[windowSize];
+		this.slowCalls = new boolean[windowSize];
+	}
+
+	public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+		long permitted = tryAcquirePermission();
+		if (permitted < 0) {
+			return CompletableFuture.failedFuture(new LLMCircuitOpenException(provider));
+		}
+
+		long start = System.nanoTime();
+		CompletableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (Throwable e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		return future.whenComplete((result, e) -> onResult(permitted, e != null && isFailure(e),
+			System.nanoTime() - start));
+	}
+
+	/**
+	 * 라우팅 판단용. 반열림 시험 호출 허가를 소비하지 않습니다.
+	 */
+	public synchronized boolean isOpen() {
+		return state == State.OPEN && System.nanoTime() - openedAtNanos < openNanos;
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public synchronized double getFailureRate() {
+		return recorded == 0 ? 0.0 : (double)failureCount / recorded;
+	}
+
+	public synchronized double getSlowCallRate() {
+		return recorded == 0 ? 0.0 : (double)slowCount / recorded;
+	}
+
+	// 허가한 세대를 반환, 허가하지 않으면 -1
+	private synchronized long tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAtNanos < openNanos) {
+				return -1;
+			}
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenInFlight >= halfOpenPermittedCalls) {
+				return -1;
+			}
+			halfOpenInFlight++;
+		}
+		return generation;
+	}
+
+	private synchronized void onResult(long permitted, boolean failure, long durationNanos) {
+		if (permitted != generation) {
+			// 다른 상태에서 출발한 호출의 늦은 결과는 무시
+			return;
+		}
+		boolean slow = durationNanos >= slowCallNanos;
+
+		if (state == State.HALF_OPEN) {
+			halfOpenInFlight--;
+			if (failure || slow) {
+				transitionTo(State.OPEN);
+			} else if (++halfOpenSuccesses >= halfOpenPermittedCalls) {
+				transitionTo(State.CLOSED);
+			}
+			return;
+		}
+		if (recorded == windowSize) {
+			failureCount -= failures[index] ? 1 : 0;
+			slowCount -= slowCalls[index] ? 1 : 0;
+		} else {
+			recorded++;
+		}
+		failures[index] = failure;
+		slowCalls[index] = slow;
+		failureCount += failure ? 1 : 0;
+		slowCount += slow ? 1 : 0;
+		index = (index + 1) % windowSize;
+
+		if (recorded >= minimumCalls
+			&& (getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold)) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	private void transitionTo(State newState) {
+		log.warn("{} circuit {} -> {} (failure rate {}, slow call rate {})",
+			provider, state, newState, getFailureRate(), getSlowCallRate());
+		state = newState;
+		generation++;
+		halfOpenInFlight = 0;
+		halfOpenSuccesses = 0;
+		if (newState == State.OPEN) {
+			openedAtNanos = System.nanoTime();
+		}
+		if (newState == State.CLOSED) {
+			index = 0;
+			recorded = 0;
+			failureCount = 0;
+			slowCount = 0;
+		}
+	}
+
+	private static boolean isFailure(Throwable e) {
+		while (e instanceof CompletionException && e.getCause() != null) {
+			e = e.getCause();
+		}
+		if (e instanceof LLMApiException apiException) {
+			return apiException.getStatusCode() >= 500;
+		}
+		return e instanceof IOException;
+	}
+}
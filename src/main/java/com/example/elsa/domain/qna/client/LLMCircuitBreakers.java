@@ -0,0 +1,52 @@
+package com.example.elsa.domain.qna.client;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 제공자별 {@link LLMCircuitBreaker}를 보관합니다.
+ */
+@Component
+public class LLMCircuitBreakers {
+
+	private final Map<LLMProviderType, LLMCircuitBreaker> breakers = new EnumMap<>(LLMProviderType.class);
+
+	public LLMCircuitBreakers(MeterRegistry meterRegistry,
+		@Value("${llm.circuit-breaker.window-size:20}") int windowSize,
+		@Value("${llm.circuit-breaker.minimum-calls:10}") int minimumCalls,
+		@Value("${llm.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+		@Value("${llm.circuit-breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+		@Value("${llm.circuit-breaker.slow-call-duration:30s}") Duration slowCallDuration,
+		@Value("${llm.circuit-breaker.open-duration:30s}") Duration openDuration,
+		@Value("${llm.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+		for (LLMProviderType type : LLMProviderType.values()) {
+			LLMCircuitBreaker breaker = new LLMCircuitBreaker(type.name().toLowerCase(), windowSize, minimumCalls,
+				failureRateThreshold, slowCallRateThreshold, slowCallDuration.toNanos(), openDuration.toNanos(),
+				halfOpenCalls);
+			breakers.put(type, breaker);
+
+			// 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+			Gauge.builder("llm.circuit.state", breaker, b -> b.getState().ordinal())
+				.tag("provider", type.name().toLowerCase()).register(meterRegistry);
+			Gauge.builder("llm.circuit.failure.rate", breaker, LLMCircuitBreaker::getFailureRate)
+				.tag("provider", type.name().toLowerCase()).register(meterRegistry);
+		}
+	}
+
+	public LLMCircuitBreaker get(LLMProviderType providerType) {
+		return breakers.get(providerType);
+	}
+
+	public boolean isAvailable(LLMProviderType providerType) {
+		return !breakers.get(providerType).isOpen();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.elsa.domain.qna.client;
+
+import lombok.Getter;
+
+/**
+ * 제공자의 회로 차단기가 열려 있어 호출을 시도하지 않고 즉시 실패했음을 나타냅니다.
+ */
+@Getter
+public class LLMCircuitOpenException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String provider;
+
+	public LLMCircuitOpenException(String provider) {
+		super(provider + " circuit is open");
+		this.provider = provider;
+	}
+}
@@ -0,0 +1,204 @@
+package com.example.elsa.domain.qna.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 제공자별 논블로킹 HTTP 클라이언트입니다.
+ * JDK {@link HttpClient}가 커넥션을 keep-alive로 재사용하며, 응답 대기 중에는 어떤 스레드도 점유하지 않습니다.
+ */
+@Slf4j
+public class LLMHttpClient {
+
+	@Getter
+	private final String provider;
+	private final HttpClient httpClient;
+	private final Duration requestTimeout;
+	private final Map<String, String> defaultHeaders;
+
+	public LLMHttpClient(String provider, HttpClient httpClient, Duration requestTimeout,
+		Map<String, String> defaultHeaders) {
+		this.provider = provider;
+		this.httpClient = httpClient;
+		this.requestTimeout = requestTimeout;
+		this.defaultHeaders = defaultHeaders;
+	}
+
+	public CompletableFuture<String> postJson(String url, String body) {
+		return httpClient.sendAsync(jsonRequest(url, body), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+			.thenApply(this::checkStatus);
+	}
+
+	public CompletableFuture<String> get(String url) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+			.timeout(requestTimeout)
+			.GET();
+		defaultHeaders.forEach(builder::header);
+		return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+			.thenApply(this::checkStatus);
+	}
+
+	/**
+	 * multipart/form-data로 파일 하나와 텍스트 필드들을 업로드합니다. (배치 입력 파일 업로드용)
+	 */
+	public CompletableFuture<String> postMultipart(String url, Map<String, String> fields, String fileField,
+		Path file) {
+		String boundary = "----elsa-" + UUID.randomUUID();
+		byte[] body;
+		try {
+			body = multipartBody(boundary, fields, fileField, file);
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+			.timeout(requestTimeout)
+			.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+			.POST(HttpRequest.BodyPublishers.ofByteArray(body));
+		defaultHeaders.forEach(builder::header);
+		return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+			.thenApply(this::checkStatus);
+	}
+
+	private static byte[] multipartBody(String boundary, Map<String, String> fields, String fileField, Path file)
+		throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (Map.Entry<String, String> field : fields.entrySet()) {
+			out.write(("--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"" + field.getKey() + "\"\r\n\r\n"
+				+ field.getValue() + "\r\n").getBytes(StandardCharsets.UTF_8));
+		}
+		out.write(("--" + boundary + "\r\n"
+			+ "Content-Disposition: form-data; name=\"" + fileField + "\"; filename=\"" + file.getFileName() + "\"\r\n"
+			+ "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		out.write(Files.readAllBytes(file));
+		out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return out.toByteArray();
+	}
+
+	/**
+	 * 응답 본문을 줄 단위로 받아 도착하는 즉시 onLine에 전달합니다. (SSE 스트리밍 응답용)
+	 * 반환된 future는 스트림이 끝나면 완료되고, onLine이 예외를 던지면 수신을 취소하고 그 예외로 실패합니다.
+	 * 2xx가 아닌 응답은 본문 전체를 읽은 뒤 {@link LLMApiException}으로 실패합니다.
+	 */
+	public CompletableFuture<Void> streamLines(String url, String body, Consumer<String> onLine) {
+		LineSubscriber subscriber = new LineSubscriber(onLine);
+		httpClient.sendAsync(jsonRequest(url, body), responseInfo -> {
+				int status = responseInfo.statusCode();
+				if (status >= 200 && status < 300) {
+					return HttpResponse.BodySubscribers.fromLineSubscriber(subscriber);
+				}
+				return HttpResponse.BodySubscribers.mapping(
+					HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+					errorBody -> {
+						throw apiException(status, responseInfo.headers(), errorBody);
+					});
+			})
+			.whenComplete((response, e) -> {
+				if (e != null) {
+					subscriber.done.completeExceptionally(e);
+				}
+			});
+		return subscriber.done;
+	}
+
+	private HttpRequest jsonRequest(String url, String body) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+			.timeout(requestTimeout)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+		defaultHeaders.forEach(builder::header);
+		return builder.build();
+	}
+
+	private String checkStatus(HttpResponse<String> response) {
+		int status = response.statusCode();
+		if (status >= 200 && status < 300) {
+			return response.body();
+		}
+		throw apiException(status, response.headers(), response.body());
+	}
+
+	private LLMApiException apiException(int status, HttpHeaders headers, String body) {
+		Duration retryAfter = headers.firstValue("Retry-After")
+			.map(LLMHttpClient::parseRetryAfter)
+			.orElse(null);
+		return new LLMApiException(provider, status, retryAfter, body);
+	}
+
+	// Retry-After 헤더는 초 단위 숫자 또는 HTTP-date 형식
+	static Duration parseRetryAfter(String value) {
+		try {
+			return Duration.ofSeconds(Long.parseLong(value.trim()));
+		} catch (NumberFormatException e) {
+			try {
+				ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+				Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+				return delay.isNegative() ? Duration.ZERO : delay;
+			} catch (Exception ignored) {
+				log.debug("Unparseable Retry-After header: {}", value);
+				return null;
+			}
+		}
+	}
+
+	// 줄이 도착할 때마다 전달, 소비자가 실패하면 연결을 끊어 더 이상 수신하지 않음
+	private static class LineSubscriber implements Flow.Subscriber<String> {
+
+		private final Consumer<String> onLine;
+		private final CompletableFuture<Void> done = new CompletableFuture<>();
+		private Flow.Subscription subscription;
+
+		LineSubscriber(Consumer<String> onLine) {
+			this.onLine = onLine;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(String line) {
+			if (done.isDone()) {
+				return;
+			}
+			try {
+				onLine.accept(line);
+			} catch (RuntimeException e) {
+				subscription.cancel();
+				done.completeExceptionally(e);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			done.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			done.complete(null);
+		}
+	}
+}
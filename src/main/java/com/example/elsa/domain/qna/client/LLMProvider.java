@@ -0,0 +1,46 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+/**
+ * LLM 제공자 SPI입니다.
+ * <p>
+ * 구현체는 전송과 응답 해석만 담당하고, 프롬프트 구성, 대체 모델 라우팅, 요청 제어/재시도/회로 차단은
+ * 호출자({@code AnswerService}, {@code LLMStreamingService})가 모든 제공자에 동일하게 적용합니다.
+ * 제공자는 {@link LLMProviderRegistry}가 모델별로 선택합니다.
+ */
+public interface LLMProvider {
+
+	String getName();
+
+	boolean supports(LLMModel model);
+
+	/**
+	 * @return 응답 텍스트, 응답이 비어 있으면 null
+	 */
+	CompletableFuture<String> submit(LLMModel model, String prompt, int maxTokens);
+
+	/**
+	 * 부분 응답이 도착할 때마다 onDelta에 전달하고, 응답이 끝나면 완료됩니다.
+	 */
+	CompletableFuture<Void> stream(LLMModel model, String prompt, int maxTokens, Consumer<String> onDelta);
+
+	/**
+	 * @return 오프라인 일괄 생성을 지원하지 않으면 empty
+	 */
+	Optional<LLMBatchProvider> batch();
+
+	/**
+	 * 호출 가능한 설정 상태인지 여부. 실시간 장애 여부는 회로 차단기가 판단합니다.
+	 */
+	boolean isHealthy();
+
+	/**
+	 * @return 예상 비용(USD)
+	 */
+	double estimateCost(LLMModel model, int inputTokens, int outputTokens);
+}
@@ -0,0 +1,68 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델별로 호출할 {@link LLMProvider}를 선택합니다.
+ * {@code llm.provider.stub.enabled}가 true이면 모든 모델을 {@link StubProvider}로 보냅니다.
+ */
+@Slf4j
+@Component
+public class LLMProviderRegistry {
+
+	private final List<LLMProvider> providers;
+	private final StubProvider stubProvider;
+	private final LLMCircuitBreakers circuitBreakers;
+	private final MeterRegistry meterRegistry;
+	private final boolean stubEnabled;
+
+	public LLMProviderRegistry(List<LLMProvider> providers, StubProvider stubProvider,
+		LLMCircuitBreakers circuitBreakers, MeterRegistry meterRegistry,
+		@Value("${llm.provider.stub.enabled:false}") boolean stubEnabled) {
+		this.providers = providers.stream()
+			.filter(provider -> provider != stubProvider)
+			.collect(Collectors.toList());
+		this.stubProvider = stubProvider;
+		this.circuitBreakers = circuitBreakers;
+		this.meterRegistry = meterRegistry;
+		this.stubEnabled = stubEnabled;
+		if (stubEnabled) {
+			log.warn("Stub LLM provider is enabled, all model calls are served locally");
+		}
+	}
+
+	public LLMProvider get(LLMModel model) {
+		if (stubEnabled) {
+			return stubProvider;
+		}
+		return providers.stream()
+			.filter(provider -> provider.supports(model))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("Unsupported model: " + model));
+	}
+
+	/**
+	 * 제공자 설정이 유효하고 회로가 닫혀 있으면 호출 가능합니다.
+	 */
+	public boolean isAvailable(LLMModel model) {
+		return get(model).isHealthy() && circuitBreakers.isAvailable(model.getProviderType());
+	}
+
+	// 응답 하나의 예상 비용을 누적 (llm.cost.estimated, USD)
+	public void recordUsage(LLMModel model, String prompt, String answer) {
+		LLMProvider provider = get(model);
+		int inputTokens = LLMRateLimiters.estimateTokens(prompt);
+		int outputTokens = answer == null ? 0 : LLMRateLimiters.estimateTokens(answer);
+		meterRegistry.counter("llm.cost.estimated", "provider", provider.getName(), "model", model.name())
+			.increment(provider.estimateCost(model, inputTokens, outputTokens));
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.example.elsa.global.common.ContextPropagatingTaskDecorator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 제공자별 {@link AdaptiveRateLimiter}를 보관합니다.
+ */
+@Component
+public class LLMRateLimiters {
+
+	private final Map<LLMProviderType, AdaptiveRateLimiter> limiters = new EnumMap<>(LLMProviderType.class);
+
+	public LLMRateLimiters(@Qualifier("llmScheduler") ThreadPoolTaskScheduler llmScheduler,
+		MeterRegistry meterRegistry,
+		ContextPropagatingTaskDecorator contextPropagation,
+		@Value("${llm.openai.requests-per-minute:500}") int openaiRequestsPerMinute,
+		@Value("${llm.openai.tokens-per-minute:200000}") int openaiTokensPerMinute,
+		@Value("${llm.openai.initial-concurrency:8}") int openaiInitialConcurrency,
+		@Value("${llm.openai.max-concurrency:64}") int openaiMaxConcurrency,
+		@Value("${llm.gemini.requests-per-minute:60}") int geminiRequestsPerMinute,
+		@Value("${llm.gemini.tokens-per-minute:1000000}") int geminiTokensPerMinute,
+		@Value("${llm.gemini.initial-concurrency:4}") int geminiInitialConcurrency,
+		@Value("${llm.gemini.max-concurrency:32}") int geminiMaxConcurrency) {
+		limiters.put(LLMProviderType.OPENAI, new AdaptiveRateLimiter("openai", llmScheduler.getScheduledExecutor(),
+			contextPropagation, openaiRequestsPerMinute, openaiTokensPerMinute, openaiInitialConcurrency, openaiMaxConcurrency));
+		limiters.put(LLMProviderType.GEMINI, new AdaptiveRateLimiter("gemini", llmScheduler.getScheduledExecutor(),
+			contextPropagation, geminiRequestsPerMinute, geminiTokensPerMinute, geminiInitialConcurrency, geminiMaxConcurrency));
+
+		limiters.forEach((type, limiter) -> {
+			String provider = type.name().toLowerCase();
+			Gauge.builder("llm.limiter.concurrency.window", limiter, AdaptiveRateLimiter::getConcurrencyWindow)
+				.tag("provider", provider).register(meterRegistry);
+			Gauge.builder("llm.limiter.in.flight", limiter, AdaptiveRateLimiter::getInFlight)
+				.tag("provider", provider).register(meterRegistry);
+			Gauge.builder("llm.limiter.queued", limiter, AdaptiveRateLimiter::getQueued)
+				.tag("provider", provider).register(meterRegistry);
+		});
+	}
+
+	public AdaptiveRateLimiter get(LLMProviderType providerType) {
+		return limiters.get(providerType);
+	}
+
+	// 영문은 약 4자당 1토큰, 한글 등 비ASCII 문자는 문자당 1토큰 정도로 보수적으로 추정
+	public static int estimateTokens(String text) {
+		int ascii = 0;
+		int nonAscii = 0;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) < 128) {
+				ascii++;
+			} else {
+				nonAscii++;
+			}
+		}
+		return ascii / 4 + nonAscii + 1;
+	}
+}
@@ -0,0 +1,125 @@
+package com.example.elsa.domain.qna.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.global.common.ContextPropagatingTaskDecorator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 호출 재시도기입니다.
+ * <p>
+ * 실패한 호출은 스레드를 재우지 않고 스케줄러에 다시 예약됩니다. 대기 시간은 full jitter를 적용한 지수 백오프
+ * (0 ~ min(maxDelay, baseDelay * 2^attempt) 사이의 난수)이며, 응답에 Retry-After 헤더가 있으면 그보다 먼저 재시도하지 않습니다.
+ * 호출마다 최대 시도 횟수와 누적 대기 시간 한도(재시도 예산)가 있어, 장애 중에도 작업이 무한정 밀리지 않습니다.
+ * 재시도는 처음 호출한 스레드의 MDC와 Observation으로 실행합니다.
+ */
+@Slf4j
+@Component
+public class LLMRetryExecutor {
+
+	private final ScheduledExecutorService scheduler;
+	private final MeterRegistry meterRegistry;
+	private final ContextPropagatingTaskDecorator contextPropagation;
+	private final int maxAttempts;
+	private final long baseDelayMillis;
+	private final long maxDelayMillis;
+	private final long budgetMillis;
+
+	public LLMRetryExecutor(@Qualifier("llmScheduler") ThreadPoolTaskScheduler llmScheduler,
+		MeterRegistry meterRegistry,
+		ContextPropagatingTaskDecorator contextPropagation,
+		@Value("${llm.retry.max-attempts:3}") int maxAttempts,
+		@Value("${llm.retry.base-delay:1s}") Duration baseDelay,
+		@Value("${llm.retry.max-delay:30s}") Duration maxDelay,
+		@Value("${llm.retry.budget:60s}") Duration budget) {
+		this.scheduler = llmScheduler.getScheduledExecutor();
+		this.meterRegistry = meterRegistry;
+		this.contextPropagation = contextPropagation;
+		this.maxAttempts = maxAttempts;
+		this.baseDelayMillis = baseDelay.toMillis();
+		this.maxDelayMillis = maxDelay.toMillis();
+		this.budgetMillis = budget.toMillis();
+	}
+
+	public <T> CompletableFuture<T> execute(String provider, Supplier<CompletableFuture<T>> call) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		attempt(provider, call, 0, 0, result, contextPropagation.capture());
+		return result;
+	}
+
+	private <T> void attempt(String provider, Supplier<CompletableFuture<T>> call, int attempt, long waitedMillis,
+		CompletableFuture<T> result, ContextPropagatingTaskDecorator.Snapshot context) {
+		CompletableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (Throwable e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		future.whenComplete((value, e) -> {
+			if (e == null) {
+				result.complete(value);
+				return;
+			}
+
+			Throwable cause = unwrap(e);
+			if (!isRetryable(cause) || attempt + 1 >= maxAttempts) {
+				result.completeExceptionally(cause);
+				return;
+			}
+
+			long delayMillis = nextDelayMillis(attempt, cause);
+			if (waitedMillis + delayMillis > budgetMillis) {
+				log.warn("{} retry budget exhausted after {} attempts: {}", provider, attempt + 1, cause.getMessage());
+				meterRegistry.counter("llm.retry.exhausted", "provider", provider).increment();
+				result.completeExceptionally(cause);
+				return;
+			}
+
+			log.warn("{} attempt {} of {} failed, retrying in {} ms: {}",
+				provider, attempt + 1, maxAttempts, delayMillis, cause.getMessage());
+			meterRegistry.counter("llm.retry.attempts", "provider", provider).increment();
+			scheduler.schedule(
+				context.wrap(() -> attempt(provider, call, attempt + 1, waitedMillis + delayMillis, result, context)),
+				delayMillis, TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private long nextDelayMillis(int attempt, Throwable cause) {
+		long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 20));
+		long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+		if (cause instanceof LLMApiException apiException && apiException.getRetryAfter() != null) {
+			delay = Math.max(delay, apiException.getRetryAfter().toMillis());
+		}
+		return delay;
+	}
+
+	private static boolean isRetryable(Throwable cause) {
+		if (cause instanceof LLMApiException apiException) {
+			return apiException.isRetryable();
+		}
+		// 연결 실패, 타임아웃(HttpTimeoutException) 등 네트워크 오류
+		return cause instanceof IOException;
+	}
+
+	private static Throwable unwrap(Throwable e) {
+		while (e instanceof CompletionException && e.getCause() != null) {
+			e = e.getCause();
+		}
+		return e;
+	}
+}
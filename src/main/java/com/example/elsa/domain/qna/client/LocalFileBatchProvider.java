@@ -0,0 +1,126 @@
+package com.example.elsa.domain.qna.client;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API를 호출하지 않는 테스트용 배치 제공자입니다.
+ * 제출된 파일을 디렉터리에 보관하고, 완료 지연 시간이 지나면 각 요청의 번호 항목마다 "Yes"로 응답한 결과를 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class LocalFileBatchProvider implements LLMBatchProvider {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, Instant> submittedAt = new HashMap<>();
+
+	@Value("${llm.batch.local.dir:${java.io.tmpdir}/elsa-batch}")
+	private String directory;
+
+	@Value("${llm.batch.local.completion-delay:5s}")
+	private Duration completionDelay;
+
+	@Override
+	public String getName() {
+		return "local";
+	}
+
+	@Override
+	public boolean supports(LLMModel model) {
+		return true;
+	}
+
+	@Override
+	public CompletableFuture<String> submit(Path requestFile) {
+		String batchId = "local-" + UUID.randomUUID();
+		try {
+			Path dir = Files.createDirectories(Paths.get(directory));
+			Files.copy(requestFile, dir.resolve(batchId + ".jsonl"));
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		synchronized (submittedAt) {
+			submittedAt.put(batchId, Instant.now());
+		}
+		log.info("Local batch {} submitted from {}", batchId, requestFile);
+		return CompletableFuture.completedFuture(batchId);
+	}
+
+	@Override
+	public CompletableFuture<LLMBatchStatus> poll(String batchId) {
+		Instant submitted;
+		synchronized (submittedAt) {
+			submitted = submittedAt.get(batchId);
+		}
+		if (submitted == null) {
+			// 재시작 후에는 보관된 요청 파일의 수정 시각을 제출 시각으로 사용
+			try {
+				submitted = Files.getLastModifiedTime(Paths.get(directory).resolve(batchId + ".jsonl")).toInstant();
+			} catch (IOException e) {
+				return CompletableFuture.completedFuture(LLMBatchStatus.FAILED);
+			}
+		}
+		boolean done = Instant.now().isAfter(submitted.plus(completionDelay));
+		return CompletableFuture.completedFuture(done ? LLMBatchStatus.COMPLETED : LLMBatchStatus.IN_PROGRESS);
+	}
+
+	@Override
+	public CompletableFuture<Map<String, String>> results(String batchId) {
+		Path requestFile = Paths.get(directory).resolve(batchId + ".jsonl");
+		Path outputFile = Paths.get(directory).resolve(batchId + ".output.jsonl");
+		Map<String, String> answers = new HashMap<>();
+		try (BufferedWriter writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+			List<String> lines = Files.readAllLines(requestFile, StandardCharsets.UTF_8);
+			for (String line : lines) {
+				if (line.isBlank()) {
+					continue;
+				}
+				JsonNode request = objectMapper.readTree(line);
+				String customId = request.path("custom_id").asText();
+				String prompt = request.path("body").path("messages").path(0).path("content").asText("");
+				String answer = answerAllYes(prompt);
+				answers.put(customId, answer);
+
+				Map<String, String> output = Map.of("custom_id", customId, "answer", answer);
+				writer.write(objectMapper.writeValueAsString(output));
+				writer.newLine();
+			}
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(new UncheckedIOException(e));
+		}
+		return CompletableFuture.completedFuture(answers);
+	}
+
+	// 번호가 붙은 항목마다 "Yes"
+	private String answerAllYes(String prompt) {
+		StringBuilder answer = new StringBuilder();
+		for (String line : prompt.split("\n")) {
+			if (line.matches(".*\\d+\\..*")) {
+				answer.append("Yes\n");
+			}
+		}
+		return answer.toString().trim();
+	}
+}
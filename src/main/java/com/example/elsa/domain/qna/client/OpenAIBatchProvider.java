@@ -0,0 +1,131 @@
+package com.example.elsa.domain.qna.client;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI Batch API 제공자입니다. 입력 파일 업로드 → 배치 생성 → 상태 조회 → 결과 파일 다운로드 순으로 동작합니다.
+ */
+@Slf4j
+@Component
+public class OpenAIBatchProvider implements LLMBatchProvider {
+
+	private final LLMHttpClient openaiHttpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${llm.batch.openai.base-url:https://api.openai.com/v1}")
+	private String baseUrl;
+
+	@Value("${llm.batch.openai.completion-window:24h}")
+	private String completionWindow;
+
+	public OpenAIBatchProvider(@Qualifier("openaiHttpClient") LLMHttpClient openaiHttpClient) {
+		this.openaiHttpClient = openaiHttpClient;
+	}
+
+	@Override
+	public String getName() {
+		return "openai";
+	}
+
+	@Override
+	public boolean supports(LLMModel model) {
+		return model.getProviderType() == LLMProviderType.OPENAI;
+	}
+
+	@Override
+	public CompletableFuture<String> submit(Path requestFile) {
+		return openaiHttpClient.postMultipart(baseUrl + "/files", Map.of("purpose", "batch"), "file", requestFile)
+			.thenCompose(uploadResponse -> {
+				Map<String, String> batchRequest = new HashMap<>();
+				batchRequest.put("input_file_id", readTree(uploadResponse).path("id").asText());
+				batchRequest.put("endpoint", "/v1/chat/completions");
+				batchRequest.put("completion_window", completionWindow);
+				return openaiHttpClient.postJson(baseUrl + "/batches", writeValue(batchRequest));
+			})
+			.thenApply(batchResponse -> readTree(batchResponse).path("id").asText());
+	}
+
+	@Override
+	public CompletableFuture<LLMBatchStatus> poll(String batchId) {
+		return openaiHttpClient.get(baseUrl + "/batches/" + batchId)
+			.thenApply(response -> {
+				String status = readTree(response).path("status").asText();
+				switch (status) {
+					case "completed":
+						return LLMBatchStatus.COMPLETED;
+					case "failed":
+					case "expired":
+					case "cancelled":
+						log.warn("OpenAI batch {} ended with status {}", batchId, status);
+						return LLMBatchStatus.FAILED;
+					default:
+						return LLMBatchStatus.IN_PROGRESS;
+				}
+			});
+	}
+
+	@Override
+	public CompletableFuture<Map<String, String>> results(String batchId) {
+		return openaiHttpClient.get(baseUrl + "/batches/" + batchId)
+			.thenCompose(response -> {
+				String outputFileId = readTree(response).path("output_file_id").asText(null);
+				if (outputFileId == null) {
+					return CompletableFuture.completedFuture(Map.<String, String>of());
+				}
+				return openaiHttpClient.get(baseUrl + "/files/" + outputFileId + "/content")
+					.thenApply(this::parseOutput);
+			});
+	}
+
+	// 출력 파일의 각 줄: {"custom_id": "...", "response": {"status_code": 200, "body": {chat completion}}, "error": null}
+	private Map<String, String> parseOutput(String output) {
+		Map<String, String> answers = new HashMap<>();
+		for (String line : output.split("\n")) {
+			if (line.isBlank()) {
+				continue;
+			}
+			JsonNode result = readTree(line);
+			JsonNode response = result.path("response");
+			if (response.path("status_code").asInt() != 200) {
+				log.warn("Batch request {} failed: {}", result.path("custom_id").asText(), result.path("error"));
+				continue;
+			}
+			String content = response.path("body").path("choices").path(0).path("message").path("content").asText("");
+			answers.put(result.path("custom_id").asText(), content.trim());
+		}
+		return answers;
+	}
+
+	private JsonNode readTree(String json) {
+		try {
+			return objectMapper.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private String writeValue(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new CompletionException(e);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.dto.ChatRequest;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI Chat Completions 제공자입니다.
+ */
+@Slf4j
+@Component
+public class OpenAIProvider implements LLMProvider {
+
+	// 1M 토큰당 USD {입력, 출력}
+	private static final Map<LLMModel, double[]> PRICES = new EnumMap<>(Map.of(
+		LLMModel.GPT_3_5, new double[] {0.5, 1.5},
+		LLMModel.GPT_4, new double[] {30.0, 60.0},
+		LLMModel.GPT_4o, new double[] {5.0, 15.0}));
+
+	private final LLMHttpClient openaiHttpClient;
+	private final OpenAIBatchProvider batchProvider;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${openai.api.url}")
+	private String apiUrl;
+
+	@Value("${openai.api.key}")
+	private String apiKey;
+
+	public OpenAIProvider(@Qualifier("openaiHttpClient") LLMHttpClient openaiHttpClient,
+		OpenAIBatchProvider batchProvider) {
+		this.openaiHttpClient = openaiHttpClient;
+		this.batchProvider = batchProvider;
+	}
+
+	@Override
+	public String getName() {
+		return "openai";
+	}
+
+	@Override
+	public boolean supports(LLMModel model) {
+		return model.getProviderType() == LLMProviderType.OPENAI;
+	}
+
+	@Override
+	public CompletableFuture<String> submit(LLMModel model, String prompt, int maxTokens) {
+		String body;
+		try {
+			body = objectMapper.writeValueAsString(new ChatRequest(model.getModelName(), prompt, maxTokens));
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		// 첫 번째 choice의 내용을 추출
+		return openaiHttpClient.postJson(apiUrl, body)
+			.thenApply(responseBody -> {
+				JsonNode choices = readTree(responseBody).path("choices");
+				if (!choices.isArray() || choices.isEmpty()) {
+					return null;
+				}
+				return choices.get(0).path("message").path("content").asText().trim();
+			});
+	}
+
+	@Override
+	public CompletableFuture<Void> stream(LLMModel model, String prompt, int maxTokens, Consumer<String> onDelta) {
+		String body;
+		try {
+			ObjectNode request = objectMapper.valueToTree(new ChatRequest(model.getModelName(), prompt, maxTokens));
+			request.put("stream", true);
+			body = objectMapper.writeValueAsString(request);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		return openaiHttpClient.streamLines(apiUrl, body, line -> SseLines.data(line, objectMapper)
+			.map(chunk -> chunk.path("choices").path(0).path("delta").path("content").asText(""))
+			.filter(delta -> !delta.isEmpty())
+			.ifPresent(onDelta));
+	}
+
+	@Override
+	public Optional<LLMBatchProvider> batch() {
+		return Optional.of(batchProvider);
+	}
+
+	@Override
+	public boolean isHealthy() {
+		return apiKey != null && !apiKey.isBlank();
+	}
+
+	@Override
+	public double estimateCost(LLMModel model, int inputTokens, int outputTokens) {
+		double[] price = PRICES.getOrDefault(model, new double[] {0, 0});
+		return (inputTokens * price[0] + outputTokens * price[1]) / 1_000_000;
+	}
+
+	private JsonNode readTree(String json) {
+		try {
+			return objectMapper.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new CompletionException(e);
+		}
+	}
+}
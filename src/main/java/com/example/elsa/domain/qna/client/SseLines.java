@@ -0,0 +1,41 @@
+package com.example.elsa.domain.qna.client;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자 스트리밍 응답(SSE)의 줄 해석 도우미입니다.
+ */
+@Slf4j
+final class SseLines {
+
+	private static final String DATA_PREFIX = "data:";
+	private static final String DONE = "[DONE]";
+
+	private SseLines() {
+	}
+
+	/**
+	 * {@code data:} 줄의 JSON 본문을 반환합니다. 다른 종류의 줄, 종료 표시, 해석할 수 없는 본문은 empty입니다.
+	 */
+	static Optional<JsonNode> data(String line, ObjectMapper objectMapper) {
+		if (!line.startsWith(DATA_PREFIX)) {
+			return Optional.empty();
+		}
+		String payload = line.substring(DATA_PREFIX.length()).trim();
+		if (payload.isEmpty() || DONE.equals(payload)) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readTree(payload));
+		} catch (JsonProcessingException e) {
+			log.debug("Skipping unparseable stream chunk: {}", payload);
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.elsa.domain.qna.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+/**
+ * 네트워크와 할당량 없이 채점 파이프라인을 부하 테스트하기 위한 로컬 제공자입니다.
+ * <p>
+ * 응답 지연은 중앙값과 p99로 정한 로그정규분포를 따르고, 설정한 비율로 503과 429 오류를 돌려줍니다.
+ * 응답 내용은 결정적입니다. 번호 항목마다 모델과 항목 내용의 해시로 Yes/No를 정하므로 같은 입력에는 항상 같은 답을 줍니다.
+ * 지연은 스케줄러로 처리하므로 대기 중에 스레드를 점유하지 않습니다.
+ */
+@Component
+public class StubProvider implements LLMProvider {
+
+	// 표준정규분포의 99번째 백분위수
+	private static final double Z_99 = 2.326;
+
+	private final ThreadPoolTaskScheduler llmScheduler;
+	private final LocalFileBatchProvider batchProvider;
+	private final Duration latencyMedian;
+	private final double latencySigma;
+	private final double errorRate;
+	private final double rateLimitRate;
+
+	public StubProvider(@Qualifier("llmScheduler") ThreadPoolTaskScheduler llmScheduler,
+		LocalFileBatchProvider batchProvider,
+		@Value("${llm.provider.stub.latency-median:800ms}") Duration latencyMedian,
+		@Value("${llm.provider.stub.latency-p99:5s}") Duration latencyP99,
+		@Value("${llm.provider.stub.error-rate:0.02}") double errorRate,
+		@Value("${llm.provider.stub.rate-limit-rate:0.01}") double rateLimitRate) {
+		this.llmScheduler = llmScheduler;
+		this.batchProvider = batchProvider;
+		this.latencyMedian = latencyMedian;
+		this.latencySigma = Math.max(0, Math.log((double)latencyP99.toMillis() / Math.max(1, latencyMedian.toMillis())) / Z_99);
+		this.errorRate = errorRate;
+		this.rateLimitRate = rateLimitRate;
+	}
+
+	@Override
+	public String getName() {
+		return "stub";
+	}
+
+	@Override
+	public boolean supports(LLMModel model) {
+		return true;
+	}
+
+	@Override
+	public CompletableFuture<String> submit(LLMModel model, String prompt, int maxTokens) {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		llmScheduler.schedule(() -> {
+			RuntimeException error = sampleError();
+			if (error != null) {
+				future.completeExceptionally(error);
+			} else {
+				future.complete(answer(model, prompt));
+			}
+		}, Instant.now().plus(sampleLatency()));
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<Void> stream(LLMModel model, String prompt, int maxTokens, Consumer<String> onDelta) {
+		return submit(model, prompt, maxTokens)
+			.thenAccept(answer -> {
+				for (String line : answer.split("\n")) {
+					onDelta.accept(line + "\n");
+				}
+			});
+	}
+
+	@Override
+	public Optional<LLMBatchProvider> batch() {
+		return Optional.of(batchProvider);
+	}
+
+	@Override
+	public boolean isHealthy() {
+		return true;
+	}
+
+	@Override
+	public double estimateCost(LLMModel model, int inputTokens, int outputTokens) {
+		return 0;
+	}
+
+	private Duration sampleLatency() {
+		double gaussian = ThreadLocalRandom.current().nextGaussian();
+		return Duration.ofMillis(Math.round(latencyMedian.toMillis() * Math.exp(latencySigma * gaussian)));
+	}
+
+	private RuntimeException sampleError() {
+		double sample = ThreadLocalRandom.current().nextDouble();
+		if (sample < errorRate) {
+			return new LLMApiException(getName(), 503, null, "stub: service unavailable");
+		}
+		if (sample < errorRate + rateLimitRate) {
+			return new LLMApiException(getName(), 429, Duration.ofSeconds(1), "stub: rate limit exceeded");
+		}
+		return null;
+	}
+
+	// 번호 항목마다 결정적인 Yes/No (약 80%가 Yes), 번호 항목이 없으면 Yes 한 줄
+	private String answer(LLMModel model, String prompt) {
+		StringBuilder answer = new StringBuilder();
+		for (String line : prompt.split("\n")) {
+			if (line.matches(".*\\d+\\..*")) {
+				answer.append(Math.floorMod(Objects.hash(model.name(), line.trim()), 5) == 0 ? "No" : "Yes").append('\n');
+			}
+		}
+		return answer.length() == 0 ? "Yes" : answer.toString().trim();
+	}
+}
@@ -17,12 +17,19 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.elsa.domain.qna.dto.QnaToDeleteRequest;
 import com.example.elsa.domain.qna.dto.QnaToStandardDto;
+import com.example.elsa.domain.qna.dto.SentimentAnalysisResult;
 import com.example.elsa.domain.qna.entity.QnaSet;
+import com.example.elsa.domain.qna.enums.EvaluationJobType;
 import com.example.elsa.domain.qna.enums.LLMModel;
 import com.example.elsa.domain.qna.service.AnswerService;
+import com.example.elsa.domain.qna.service.BatchAnswerService;
+import com.example.elsa.domain.qna.service.EvaluationJobService;
+import com.example.elsa.domain.qna.service.LLMTranscriptStore;
+import com.example.elsa.domain.qna.service.LLMStreamingService;
 import com.example.elsa.domain.qna.service.StandardService;
 import com.example.elsa.global.util.ResponseDto;
 
@@ -39,11 +46,15 @@ import lombok.extern.slf4j.Slf4j;
 public class StandardController {
 	private final StandardService standardService;
 	private final AnswerService answerService;
+	private final LLMStreamingService streamingService;
+	private final BatchAnswerService batchAnswerService;
+	private final EvaluationJobService evaluationJobService;
+	private final LLMTranscriptStore transcriptStore;
 
-	@Operation(summary = "모든 스탠다드의 답변들에 대한 점수 반환")
+	@Operation(summary = "모든 스탠다드의 답변들에 대한 점수 반환", description = "답변이 바뀌지 않은 QnA는 저장된 분석 결과를 사용하며, 분석한 답변 수와 캐시에서 가져온 답변 수를 함께 반환합니다.")
 	@GetMapping("/analyze/sentiments")
-	public ResponseEntity<ResponseDto<Map<String, Double>>> analyzeAllStandardQnaSentiments() {
-		Map<String, Double> sentimentScores = standardService.analyzeAllStandardQnaSentiments();
+	public ResponseEntity<ResponseDto<SentimentAnalysisResult>> analyzeAllStandardQnaSentiments() {
+		SentimentAnalysisResult sentimentScores = standardService.analyzeAllStandardQnaSentiments();
 		return ResponseEntity.ok(new ResponseDto<>("해당 모델에 대한 윤리 평가가 완료되었습니다.", sentimentScores));
 	}
 
@@ -54,11 +65,18 @@ public class StandardController {
 		return ResponseEntity.ok(new ResponseDto<>("Q&A 업로드가 완료되었습니다.", null));
 	}
 
-	@Operation(summary = "선택한 모델에 대해 질문 답변 생성")
+	@Operation(summary = "선택한 모델에 대해 질문 답변 생성", description = "답변 생성 작업을 실행하고 완료될 때까지 기다립니다.")
 	@PostMapping("/admin/generate-answers")
 	public ResponseEntity<ResponseDto<?>> generateAnswers(@RequestParam LLMModel model) {
-		standardService.generateAnswersForModel(model);
-		return ResponseEntity.ok(new ResponseDto<>(model.name() + "에 대한 답변 생성이 완료되었습니다.", null));
+		Map<String, Object> result = evaluationJobService.runJob(EvaluationJobType.GENERATE, model, false);
+		return ResponseEntity.ok(new ResponseDto<>(model.name() + "에 대한 답변 생성이 완료되었습니다.", result));
+	}
+
+	@Operation(summary = "선택한 모델에 대해 질문 답변 일괄 생성 (배치 모드)", description = "배치를 제출하고 즉시 반환합니다. 완료 후 결과가 자동으로 저장됩니다.")
+	@PostMapping("/admin/generate-answers/batch")
+	public ResponseEntity<ResponseDto<Map<String, Object>>> generateAnswersInBatch(@RequestParam LLMModel model) {
+		Map<String, Object> batch = batchAnswerService.submitBatch(model);
+		return ResponseEntity.ok(new ResponseDto<>(model.name() + " 모델의 답변 일괄 생성 요청이 제출되었습니다.", batch));
 	}
 
 	// @Operation(summary = "스탠다드 생성", description = "비활성 기능")
@@ -68,6 +86,12 @@ public class StandardController {
 	//     return ResponseEntity.ok(new ResponseDto<>("스탠다드 추가가 완료되었습니다.", null));
 	// }
 
+	@Operation(summary = "답변 일괄 생성 배치 상태 조회")
+	@GetMapping("/admin/generate-answers/batch/{batchId}")
+	public ResponseEntity<ResponseDto<Map<String, Object>>> getBatchStatus(@PathVariable Long batchId) {
+		return ResponseEntity.ok(new ResponseDto<>("배치 상태 조회가 완료되었습니다.", batchAnswerService.getBatchStatus(batchId)));
+	}
+
 	@Operation(summary = "질문/답변 추가", description = "비활성 기능")
 	@PostMapping("/admin/create/qna")
 	public ResponseEntity<ResponseDto<?>> addQna(@RequestBody QnaToStandardDto qnaToStandardDto,
@@ -100,19 +124,26 @@ public class StandardController {
 	@Operation(summary = "선택한 LLM 모델로 질문에 대한 답변 얻기")
 	@PostMapping("/admin/answer")
 	public ResponseEntity<ResponseDto<String>> getAnswerFromLLM(@RequestBody String question,
-		@RequestParam LLMModel model) {
-		String answer = answerService.getAnswer(question, model).join();
+		@RequestParam LLMModel model, @RequestParam(defaultValue = "false") boolean bypassCache) {
+		String answer = answerService.getAnswer(question, model, bypassCache).join();
 		return ResponseEntity.ok(new ResponseDto<>(model.name() + "의 답변이 생성되었습니다.", answer));
 	}
 
+	@Operation(summary = "선택한 LLM 모델의 답변을 SSE로 스트리밍", description = "token, done, error 이벤트를 전송합니다.")
+	@PostMapping(value = "/admin/answer/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamAnswerFromLLM(@RequestBody String question, @RequestParam LLMModel model) {
+		return streamingService.stream(question, model);
+	}
+
 	@Operation(summary = "특정 스탠다드 항목의 선택한 LLM 모델 답변 조회", description = "비활성 기능")
 	@GetMapping("/admin/{standardName}/list/qna/answers")
 	public ResponseEntity<ResponseDto<?>> getQnaAnswersByModel(@PathVariable String standardName,
-		@RequestParam LLMModel model) {
+		@RequestParam LLMModel model, @RequestParam(defaultValue = "false") boolean bypassCache) {
 		List<QnaSet> qnaSets = standardService.getAllQnaByStandardName(standardName);
 		List<String> answerList = qnaSets.stream()
 			.map(qnaSet -> {
-				CompletableFuture<String> answerFuture = answerService.getAnswer(qnaSet.getQuestion(), model);
+				CompletableFuture<String> answerFuture = answerService.getAnswer(qnaSet.getQuestion(), model,
+					bypassCache);
 				try {
 					return answerFuture.get();
 				} catch (Exception e) {
@@ -125,13 +156,49 @@ public class StandardController {
 			new ResponseDto<>(standardName + "의 " + model.name() + " 모델 답변 조회가 완료되었습니다.", answerList));
 	}
 
-	@Operation(summary = "특정 모델에 대한 모든 스탠다드의 점수 계산 및 저장")
+	@Operation(summary = "특정 모델에 대한 모든 스탠다드의 점수 계산 및 저장", description = "채점 작업을 실행하고 완료될 때까지 기다립니다. incremental=true이면 질문/기대 답변/프롬프트가 바뀐 QnaSet만 다시 채점합니다.")
 	@PostMapping("/admin/calculate-scores/{model}")
-	public ResponseEntity<ResponseDto<?>> calculateScoresForModel(@PathVariable LLMModel model) {
-		Map<String, Object> scores = standardService.calculateAndSaveScoresForModel(model);
+	public ResponseEntity<ResponseDto<?>> calculateScoresForModel(@PathVariable LLMModel model,
+		@RequestParam(defaultValue = "false") boolean incremental) {
+		Map<String, Object> scores = evaluationJobService.runJob(EvaluationJobType.SCORE, model, incremental);
 		return ResponseEntity.ok(new ResponseDto<>(model.name() + "에 대한 모든 스탠다드의 점수 계산 및 저장이 완료되었습니다.", scores));
 	}
 
+	@Operation(summary = "여러 모델의 모든 스탠다드 점수를 한 번에 계산 및 저장", description = "models를 생략하면 모든 모델을 채점합니다. 모델들은 동시에 채점됩니다.")
+	@PostMapping("/admin/calculate-scores/matrix")
+	public ResponseEntity<ResponseDto<Map<LLMModel, Map<String, Object>>>> calculateMatrixScores(
+		@RequestParam(required = false) List<LLMModel> models, @RequestParam(defaultValue = "false") boolean incremental) {
+		List<LLMModel> targets = models == null || models.isEmpty() ? List.of(LLMModel.values()) : models;
+		Map<LLMModel, Map<String, Object>> scores = standardService.calculateMatrixScores(targets, incremental);
+		return ResponseEntity.ok(new ResponseDto<>("모든 모델의 모든 스탠다드 점수 계산 및 저장이 완료되었습니다.", scores));
+	}
+
+	@Operation(summary = "평가 작업 제출", description = "채점(SCORE) 또는 답변 생성(GENERATE) 작업을 제출하고 즉시 반환합니다. 같은 작업이 진행 중이면 그 작업을 반환합니다.")
+	@PostMapping("/admin/jobs")
+	public ResponseEntity<ResponseDto<Map<String, Object>>> submitJob(@RequestParam EvaluationJobType type,
+		@RequestParam LLMModel model, @RequestParam(defaultValue = "false") boolean incremental) {
+		Map<String, Object> job = evaluationJobService.submitJob(type, model, incremental);
+		return ResponseEntity.ok(new ResponseDto<>(model.name() + " 모델의 평가 작업이 제출되었습니다.", job));
+	}
+
+	@Operation(summary = "평가 작업 상태/진행률 조회")
+	@GetMapping("/admin/jobs/{jobId}")
+	public ResponseEntity<ResponseDto<Map<String, Object>>> getJobStatus(@PathVariable Long jobId) {
+		return ResponseEntity.ok(new ResponseDto<>("평가 작업 조회가 완료되었습니다.", evaluationJobService.getJobStatus(jobId)));
+	}
+
+	@Operation(summary = "최근 평가 작업 목록 조회")
+	@GetMapping("/admin/jobs")
+	public ResponseEntity<ResponseDto<List<Map<String, Object>>>> getRecentJobs() {
+		return ResponseEntity.ok(new ResponseDto<>("평가 작업 목록 조회가 완료되었습니다.", evaluationJobService.getRecentJobs()));
+	}
+
+	@Operation(summary = "LLM 호출 기록(트랜스크립트) 스냅샷 목록 조회")
+	@GetMapping("/admin/transcripts/snapshots")
+	public ResponseEntity<ResponseDto<List<Map<String, Object>>>> getTranscriptSnapshots() {
+		return ResponseEntity.ok(new ResponseDto<>("트랜스크립트 스냅샷 조회가 완료되었습니다.", transcriptStore.getSnapshots()));
+	}
+
 	@Operation(summary = "모든 모델의 모든 스탠다드 점수 조회")
 	@GetMapping("/all-scores")
 	public ResponseEntity<ResponseDto<Map<LLMModel, Map<String, Object>>>> getAllScores() {
@@ -0,0 +1,36 @@
+package com.example.elsa.domain.qna.dto;
+
+import com.example.elsa.domain.qna.enums.LLMAnswerSource;
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LLMAnswer {
+	private final String text;
+	private final LLMModel requestedModel;
+	private final LLMModel servedBy;
+	private final LLMAnswerSource source;
+
+	public static LLMAnswer of(String text, LLMModel model) {
+		return new LLMAnswer(text, model, model, LLMAnswerSource.MODEL);
+	}
+
+	public static LLMAnswer error(LLMModel model, String message) {
+		return new LLMAnswer("Error: " + message, model, null, LLMAnswerSource.ERROR);
+	}
+
+	/**
+	 * 요청한 모델이 실제로 생성하지 않은 응답(다른 모델의 대체 응답 또는 기본값 응답)인지 여부.
+	 * 채점이나 모델 답변 저장에 사용해서는 안 됩니다.
+	 */
+	public boolean isSynthetic() {
+		return source == LLMAnswerSource.FALLBACK_MODEL || source == LLMAnswerSource.SYNTHETIC;
+	}
+
+	public boolean isError() {
+		return source == LLMAnswerSource.ERROR;
+	}
+}
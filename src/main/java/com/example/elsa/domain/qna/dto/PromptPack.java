@@ -0,0 +1,28 @@
+package com.example.elsa.domain.qna.dto;
+
+import java.util.List;
+
+import com.example.elsa.domain.qna.entity.QnaSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 QnaSet의 번호 항목을 하나로 묶은 요청입니다.
+ * itemCounts[i]는 qnaSets.get(i)에 속한 항목 수이며, 항목 번호는 묶음 전체에서 1부터 이어집니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PromptPack {
+	private final String prompt;
+	private final List<QnaSet> qnaSets;
+	private final int[] itemCounts;
+
+	public int getTotalItems() {
+		int total = 0;
+		for (int count : itemCounts) {
+			total += count;
+		}
+		return total;
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.elsa.domain.qna.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 감성 분석 결과입니다.
+ * analyzed는 분석기로 보낸 답변 수, cached는 답변과 분석기 버전이 그대로여서 저장된 결과를 사용한 답변 수,
+ * failed는 배치 분석이 실패해 점수에서 제외한 답변 수입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SentimentAnalysisResult {
+	private final Map<String, Double> scores;
+	private final int analyzed;
+	private final int cached;
+	private final int failed;
+}
@@ -0,0 +1,97 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.elsa.domain.qna.enums.EvaluationJobStatus;
+import com.example.elsa.domain.qna.enums.EvaluationJobType;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모델 채점/답변 생성 작업입니다. 처리한 QnaSet은 {@link EvaluationJobItem}으로 기록되어
+ * 서버가 재시작되어도 남은 항목부터 이어서 실행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EvaluationJob extends BaseEntity {
+	@Id
+	@Column(name = "job_id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private EvaluationJobType type;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMModel model;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private EvaluationJobStatus status;
+
+	// 채점 작업에서 바뀐 QnaSet만 다시 채점할지 여부
+	private boolean incremental;
+
+	private int totalItems;
+
+	// 처리하지 못한 항목이 남아 실패로 끝났을 때 그 수, 기존 행이 있는 테이블에 추가할 수 있도록 nullable
+	private Integer missingItems;
+
+	private LocalDateTime startedAt;
+
+	private LocalDateTime finishedAt;
+
+	@Column(length = 1000)
+	private String errorMessage;
+
+	public EvaluationJob(EvaluationJobType type, LLMModel model, boolean incremental, int totalItems) {
+		this.type = type;
+		this.model = model;
+		this.incremental = incremental;
+		this.totalItems = totalItems;
+		this.status = EvaluationJobStatus.PENDING;
+	}
+
+	public boolean isFinished() {
+		return status == EvaluationJobStatus.COMPLETED || status == EvaluationJobStatus.FAILED;
+	}
+
+	public void start() {
+		this.status = EvaluationJobStatus.RUNNING;
+		if (this.startedAt == null) {
+			this.startedAt = LocalDateTime.now();
+		}
+	}
+
+	public void complete() {
+		this.status = EvaluationJobStatus.COMPLETED;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	// 끝까지 실행했지만 처리하지 못한 항목(실패, 대체 응답)이 남은 경우
+	public void failWithMissingItems(int missingItems) {
+		fail(missingItems + " of " + totalItems + " items were not completed");
+		this.missingItems = missingItems;
+	}
+
+	public void fail(String errorMessage) {
+		this.status = EvaluationJobStatus.FAILED;
+		this.finishedAt = LocalDateTime.now();
+		this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+			? errorMessage.substring(0, 1000) : errorMessage;
+	}
+}
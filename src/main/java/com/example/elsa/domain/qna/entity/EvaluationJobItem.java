@@ -0,0 +1,53 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작업에서 처리를 마친 QnaSet 하나의 체크포인트입니다.
+ * 채점 작업은 문항 수/정답 수를 함께 기록하여 재개할 때 다시 요청하지 않고 집계에 더합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "qna_set_id"}),
+	indexes = @Index(columnList = "job_id"))
+public class EvaluationJobItem {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "job_id", nullable = false)
+	private Long jobId;
+
+	@Column(name = "qna_set_id", nullable = false)
+	private Long qnaSetId;
+
+	private Long standardId;
+
+	private int questionCount;
+
+	private int correctCount;
+
+	private LocalDateTime completedAt;
+
+	public EvaluationJobItem(Long jobId, Long qnaSetId, Long standardId, int questionCount, int correctCount) {
+		this.jobId = jobId;
+		this.qnaSetId = qnaSetId;
+		this.standardId = standardId;
+		this.questionCount = questionCount;
+		this.correctCount = correctCount;
+		this.completedAt = LocalDateTime.now();
+	}
+}
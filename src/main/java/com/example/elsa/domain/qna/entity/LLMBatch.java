@@ -0,0 +1,90 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.global.common.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제공자에 제출한 답변 일괄 생성 배치입니다. 서버가 재시작되어도 제공자의 배치 ID로 상태 조회를 이어갑니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LLMBatch extends BaseEntity {
+	@Id
+	@Column(name = "batch_id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 제공자가 접수하기 전에는 null
+	private String providerBatchId;
+
+	@Column(nullable = false)
+	private String provider;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMModel model;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMBatchStatus status;
+
+	private int requestCount;
+
+	private int importedCount;
+
+	private LocalDateTime finishedAt;
+
+	@Column(length = 1000)
+	private String errorMessage;
+
+	public LLMBatch(String provider, LLMModel model, int requestCount) {
+		this.provider = provider;
+		this.model = model;
+		this.requestCount = requestCount;
+		this.status = LLMBatchStatus.SUBMITTED;
+	}
+
+	public boolean isFinished() {
+		return status == LLMBatchStatus.COMPLETED || status == LLMBatchStatus.FAILED;
+	}
+
+	public void accepted(String providerBatchId) {
+		this.providerBatchId = providerBatchId;
+	}
+
+	public void inProgress() {
+		this.status = LLMBatchStatus.IN_PROGRESS;
+	}
+
+	public void importing() {
+		this.status = LLMBatchStatus.IMPORTING;
+	}
+
+	public void complete(int importedCount) {
+		this.status = LLMBatchStatus.COMPLETED;
+		this.importedCount = importedCount;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public void fail(String errorMessage) {
+		this.status = LLMBatchStatus.FAILED;
+		this.finishedAt = LocalDateTime.now();
+		this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+			? errorMessage.substring(0, 1000) : errorMessage;
+	}
+}
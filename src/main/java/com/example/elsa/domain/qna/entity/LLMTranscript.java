@@ -0,0 +1,68 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제공자 호출 한 건의 기록(요청 프롬프트와 가공 전 응답)입니다. 추가만 하며 수정하지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(columnList = "snapshot, model, prompt_hash"))
+public class LLMTranscript {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 100)
+	private String snapshot;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMModel model;
+
+	@Column(name = "prompt_hash", nullable = false, length = 64)
+	private String promptHash;
+
+	@Column(length = 100000)
+	private String prompt;
+
+	@Column(length = 100000)
+	private String response;
+
+	private long latencyMs;
+
+	private int inputTokens;
+
+	private int outputTokens;
+
+	private LocalDateTime recordedAt;
+
+	public LLMTranscript(String snapshot, LLMModel model, String promptHash, String prompt, String response,
+		long latencyMs, int inputTokens, int outputTokens) {
+		this.snapshot = snapshot;
+		this.model = model;
+		this.promptHash = promptHash;
+		this.prompt = prompt;
+		this.response = response;
+		this.latencyMs = latencyMs;
+		this.inputTokens = inputTokens;
+		this.outputTokens = outputTokens;
+		this.recordedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수 조회용 리더보드 행(모델 × 스탠다드)입니다. 점수를 저장할 때 함께 갱신되며, 조회는 이 테이블 하나만 읽습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"model", "standard_name"}),
+	indexes = @Index(columnList = "model, display_order"))
+public class LeaderboardEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMModel model;
+
+	@Column(name = "standard_name", nullable = false)
+	private String standardName;
+
+	@Column(name = "display_order", nullable = false)
+	private int displayOrder;
+
+	private double score;
+
+	private LocalDateTime updatedAt;
+
+	public LeaderboardEntry(LLMModel model, String standardName, int displayOrder, double score) {
+		this.model = model;
+		this.standardName = standardName;
+		this.displayOrder = displayOrder;
+		this.score = score;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -10,6 +10,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_model_score_standard_model",
+    columnNames = {"standard_id", "model"}))
 public class ModelScore {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
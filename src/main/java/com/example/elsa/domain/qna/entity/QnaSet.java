@@ -26,6 +26,12 @@ public class QnaSet {
 
     private boolean ethicalPass;
 
+    // 감성 분석 캐시 키(분석기 버전 + 답변의 해시), 답변이나 분석기가 바뀌면 키가 달라져 다시 분석
+    @Column(length = 64)
+    private String sentimentKey;
+
+    // 마지막 감성 분석 결과, 분석하지 못했으면 null
+    private Double sentimentResult;
 
     public QnaSet(String question, String answer) {
         this.question = question;
@@ -46,6 +52,19 @@ public class QnaSet {
         this.ethicalPass = sentimentScore < 0;
     }
 
+    public boolean hasSentimentFor(String sentimentKey) {
+        return sentimentKey.equals(this.sentimentKey);
+    }
+
+    // 분석 결과를 캐시 키와 함께 기록, 유효한 점수(-2.0이 아닌 값)만 sentimentScore에 반영
+    public void recordSentiment(String sentimentKey, Double sentimentResult) {
+        this.sentimentKey = sentimentKey;
+        this.sentimentResult = sentimentResult;
+        if (sentimentResult != null && sentimentResult != -2.0) {
+            setSentimentScore(sentimentResult);
+        }
+    }
+
     // setModel method 추가
     public void setModel(LLMModel model) {
         this.model = model;
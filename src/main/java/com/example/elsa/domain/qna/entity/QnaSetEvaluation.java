@@ -0,0 +1,78 @@
+package com.example.elsa.domain.qna.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * QnaSet 하나에 대한 모델의 마지막 채점 결과입니다.
+ * 질문/기대 답변의 해시와 프롬프트 버전을 함께 저장하여, 셋 중 하나라도 바뀐 QnaSet만 다시 채점합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"qna_set_id", "model"}))
+public class QnaSetEvaluation {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "qna_set_id", nullable = false)
+	private Long qnaSetId;
+
+	private Long standardId;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private LLMModel model;
+
+	private int questionCount;
+
+	private int correctCount;
+
+	@Column(length = 64)
+	private String questionHash;
+
+	@Column(length = 64)
+	private String answerHash;
+
+	@Column(length = 64)
+	private String promptVersion;
+
+	private LocalDateTime evaluatedAt;
+
+	public QnaSetEvaluation(Long qnaSetId, LLMModel model) {
+		this.qnaSetId = qnaSetId;
+		this.model = model;
+	}
+
+	public boolean matches(String questionHash, String answerHash, String promptVersion) {
+		return questionHash.equals(this.questionHash)
+			&& answerHash.equals(this.answerHash)
+			&& promptVersion.equals(this.promptVersion);
+	}
+
+	public void update(Long standardId, int questionCount, int correctCount, String questionHash, String answerHash,
+		String promptVersion) {
+		this.standardId = standardId;
+		this.questionCount = questionCount;
+		this.correctCount = correctCount;
+		this.questionHash = questionHash;
+		this.answerHash = answerHash;
+		this.promptVersion = promptVersion;
+		this.evaluatedAt = LocalDateTime.now();
+	}
+}
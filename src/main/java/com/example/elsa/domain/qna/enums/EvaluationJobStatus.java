@@ -0,0 +1,8 @@
+package com.example.elsa.domain.qna.enums;
+
+public enum EvaluationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.example.elsa.domain.qna.enums;
+
+public enum LLMAnswerSource {
+    MODEL,          // 요청한 모델이 생성한 응답
+    FALLBACK_MODEL, // 요청한 모델이 장애 상태여서 다른 제공자의 모델이 생성한 응답
+    SYNTHETIC,      // 모든 제공자가 실패하여 만든 기본값(모두 "Yes") 응답
+    ERROR           // 응답을 얻지 못함
+}
@@ -0,0 +1,9 @@
+package com.example.elsa.domain.qna.enums;
+
+public enum LLMBatchStatus {
+    SUBMITTED,
+    IN_PROGRESS,
+    IMPORTING,
+    COMPLETED,
+    FAILED
+}
@@ -1,23 +1,30 @@
 package com.example.elsa.domain.qna.enums;
 
 public enum LLMModel {
-    GPT_3_5("gpt-3.5-turbo"),
-    GPT_4("gpt-4"),
-    GPT_4o("gpt-4o"),
-    GEMINI;
+    GPT_3_5("gpt-3.5-turbo", LLMProviderType.OPENAI),
+    GPT_4("gpt-4", LLMProviderType.OPENAI),
+    GPT_4o("gpt-4o", LLMProviderType.OPENAI),
+    GEMINI(LLMProviderType.GEMINI);
 
     private final String modelName;
+    private final LLMProviderType providerType;
 
-    LLMModel() {
+    LLMModel(LLMProviderType providerType) {
         this.modelName = this.name();
+        this.providerType = providerType;
     }
 
-    LLMModel(String modelName) {
+    LLMModel(String modelName, LLMProviderType providerType) {
         this.modelName = modelName;
+        this.providerType = providerType;
     }
 
     public String getModelName() {
         return modelName;
     }
 
-}
\ No newline at end of file
+    public LLMProviderType getProviderType() {
+        return providerType;
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.example.elsa.domain.qna.enums;
+
+public enum LLMProviderType {
+    OPENAI,
+    GEMINI
+}
@@ -0,0 +1,13 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.elsa.domain.qna.entity.EvaluationJobItem;
+
+public interface EvaluationJobItemRepository extends JpaRepository<EvaluationJobItem, Long> {
+	List<EvaluationJobItem> findByJobId(Long jobId);
+
+	long countByJobId(Long jobId);
+}
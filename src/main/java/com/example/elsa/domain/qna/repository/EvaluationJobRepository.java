@@ -0,0 +1,15 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.elsa.domain.qna.entity.EvaluationJob;
+import com.example.elsa.domain.qna.enums.EvaluationJobStatus;
+
+public interface EvaluationJobRepository extends JpaRepository<EvaluationJob, Long> {
+	List<EvaluationJob> findByStatusIn(Collection<EvaluationJobStatus> statuses);
+
+	List<EvaluationJob> findTop50ByOrderByIdDesc();
+}
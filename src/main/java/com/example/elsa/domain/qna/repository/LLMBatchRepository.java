@@ -0,0 +1,13 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.elsa.domain.qna.entity.LLMBatch;
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+
+public interface LLMBatchRepository extends JpaRepository<LLMBatch, Long> {
+	List<LLMBatch> findByStatusIn(Collection<LLMBatchStatus> statuses);
+}
@@ -0,0 +1,15 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.elsa.domain.qna.entity.LLMTranscript;
+
+public interface LLMTranscriptRepository extends JpaRepository<LLMTranscript, Long> {
+	List<LLMTranscript> findBySnapshotOrderByIdAsc(String snapshot);
+
+	@Query("SELECT t.snapshot, COUNT(t), MIN(t.recordedAt), MAX(t.recordedAt) FROM LLMTranscript t GROUP BY t.snapshot")
+	List<Object[]> summarizeSnapshots();
+}
@@ -0,0 +1,23 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.elsa.domain.qna.entity.LeaderboardEntry;
+
+public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEntry, Long> {
+	List<LeaderboardEntry> findAllByOrderByModelAscDisplayOrderAsc();
+
+	@Modifying
+	@Query(value = "INSERT INTO leaderboard_entry (model, standard_name, display_order, score, updated_at) "
+		+ "VALUES (:model, :standardName, :displayOrder, :score, now()) "
+		+ "ON CONFLICT (model, standard_name) "
+		+ "DO UPDATE SET score = EXCLUDED.score, display_order = EXCLUDED.display_order, updated_at = EXCLUDED.updated_at",
+		nativeQuery = true)
+	void upsert(@Param("model") String model, @Param("standardName") String standardName,
+		@Param("displayOrder") int displayOrder, @Param("score") double score);
+}
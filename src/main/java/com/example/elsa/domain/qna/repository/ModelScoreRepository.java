@@ -3,9 +3,31 @@ package com.example.elsa.domain.qna.repository;
 import com.example.elsa.domain.qna.entity.ModelScore;
 import com.example.elsa.domain.qna.enums.LLMModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface ModelScoreRepository extends JpaRepository<ModelScore, Long> {
     Optional<ModelScore> findByStandardNameAndModel(String standardName, LLMModel model);
-}
\ No newline at end of file
+
+    // 같은 (standard_id, model)의 행 중 가장 최근(id가 가장 큰) 행만 남김
+    @Modifying
+    @Query(value = "DELETE FROM model_score older USING model_score newer "
+        + "WHERE older.standard_id = newer.standard_id AND older.model = newer.model AND older.id < newer.id",
+        nativeQuery = true)
+    int deleteDuplicates();
+
+    // 중복이 남아 있어 ddl-auto가 유니크 제약을 만들지 못한 기존 DB용, 이름은 엔티티의 제약 이름과 같음
+    @Modifying
+    @Query(value = "CREATE UNIQUE INDEX IF NOT EXISTS uk_model_score_standard_model ON model_score (standard_id, model)",
+        nativeQuery = true)
+    void createUniqueIndex();
+
+    // (standard_id, model) 유니크 제약을 이용한 단일 문장 저장
+    @Modifying
+    @Query(value = "INSERT INTO model_score (standard_id, model, score) VALUES (:standardId, :model, :score) "
+        + "ON CONFLICT (standard_id, model) DO UPDATE SET score = EXCLUDED.score", nativeQuery = true)
+    void upsert(@Param("standardId") Long standardId, @Param("model") String model, @Param("score") double score);
+}
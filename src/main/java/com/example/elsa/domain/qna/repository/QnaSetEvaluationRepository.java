@@ -0,0 +1,12 @@
+package com.example.elsa.domain.qna.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.elsa.domain.qna.entity.QnaSetEvaluation;
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+public interface QnaSetEvaluationRepository extends JpaRepository<QnaSetEvaluation, Long> {
+	List<QnaSetEvaluation> findByModel(LLMModel model);
+}
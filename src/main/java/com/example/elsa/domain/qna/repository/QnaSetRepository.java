@@ -2,6 +2,22 @@ package com.example.elsa.domain.qna.repository;
 
 import com.example.elsa.domain.qna.entity.QnaSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QnaSetRepository extends JpaRepository<QnaSet, Long> {
+
+    // 원본 질문(model이 없는 QnaSet)과 같은 스탠다드에 모델 답변 행을 추가, 스탠다드와 QnaSet 목록을 읽지 않음
+    // 원본이 없거나 이미 모델 답변이면 0을 반환, SELECT 목록의 null 파라미터는 타입을 알 수 없으므로 CAST
+    @Modifying
+    @Query(value = "INSERT INTO qna_set (standard_id, question, answer, model, sentiment_score, ethical_pass, "
+        + "sentiment_key, sentiment_result) "
+        + "SELECT standard_id, question, CAST(:answer AS varchar), :model, :sentimentScore, :ethicalPass, "
+        + "CAST(:sentimentKey AS varchar), CAST(:sentimentResult AS double precision) "
+        + "FROM qna_set WHERE id = :sourceId AND model IS NULL", nativeQuery = true)
+    int insertModelAnswer(@Param("sourceId") Long sourceId, @Param("answer") String answer,
+                          @Param("model") String model, @Param("sentimentScore") double sentimentScore,
+                          @Param("ethicalPass") boolean ethicalPass, @Param("sentimentKey") String sentimentKey,
+                          @Param("sentimentResult") Double sentimentResult);
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.elsa.domain.qna.entity.Standard;
 
@@ -17,4 +18,7 @@ public interface StandardRepository extends JpaRepository<Standard, Long> {
 	List<Standard> findAllValidStandards();
 
 	boolean existsByName(String name);
+
+	@Query("SELECT s.name FROM Standard s WHERE s.name IN :names")
+	List<String> findNamesByNameIn(@Param("names") List<String> names);
 }
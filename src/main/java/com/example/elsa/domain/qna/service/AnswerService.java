@@ -1,278 +1,330 @@
 package com.example.elsa.domain.qna.service;
 
-import com.example.elsa.domain.qna.dto.ChatRequest;
-import com.example.elsa.domain.qna.dto.ChatResponse;
+import com.example.elsa.domain.qna.client.LLMApiException;
+import com.example.elsa.domain.qna.client.LLMCircuitBreaker;
+import com.example.elsa.domain.qna.client.LLMCircuitBreakers;
+import com.example.elsa.domain.qna.client.LLMCircuitOpenException;
+import com.example.elsa.domain.qna.client.LLMProvider;
+import com.example.elsa.domain.qna.client.LLMProviderRegistry;
+import com.example.elsa.domain.qna.client.LLMRateLimiters;
+import com.example.elsa.domain.qna.client.LLMRetryExecutor;
+import com.example.elsa.domain.qna.dto.LLMAnswer;
+import com.example.elsa.domain.qna.enums.LLMAnswerSource;
 import com.example.elsa.domain.qna.enums.LLMModel;
-import com.example.elsa.global.util.GeminiDebugUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.example.elsa.global.common.ContextPropagatingTaskDecorator;
+import com.example.elsa.global.common.RequestIdFilter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Async;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.*;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
 public class AnswerService {
 
-    private final RestTemplate openaiRestTemplate;
-    private final RestTemplate geminiRestTemplate;
-    private final GeminiDebugUtil geminiDebugUtil;
-
-    @Value("${openai.api.url}")
-    private String apiUrl;
-
-    @Value("${gemini.api.url}")
-    private String geminiApiUrl;
-
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
+    private static final int MAX_TOKENS = 250;
+
+    private final LLMProviderRegistry providerRegistry;
+    private final LLMResponseCache responseCache;
+    private final LLMRateLimiters rateLimiters;
+    private final LLMRequestCoalescer requestCoalescer;
+    private final LLMRetryExecutor retryExecutor;
+    private final LLMCircuitBreakers circuitBreakers;
+    private final LLMTranscriptStore transcriptStore;
+    private final ObservationRegistry observationRegistry;
+    private final ContextPropagatingTaskDecorator contextPropagation;
+    private final LLMPromptPolicy promptPolicy;
+
+    public AnswerService(LLMProviderRegistry providerRegistry,
+                         LLMResponseCache responseCache,
+                         LLMRateLimiters rateLimiters,
+                         LLMRequestCoalescer requestCoalescer,
+                         LLMRetryExecutor retryExecutor,
+                         LLMCircuitBreakers circuitBreakers,
+                         LLMTranscriptStore transcriptStore,
+                         ObservationRegistry observationRegistry,
+                         ContextPropagatingTaskDecorator contextPropagation,
+                         LLMPromptPolicy promptPolicy) {
+        this.providerRegistry = providerRegistry;
+        this.responseCache = responseCache;
+        this.rateLimiters = rateLimiters;
+        this.requestCoalescer = requestCoalescer;
+        this.retryExecutor = retryExecutor;
+        this.circuitBreakers = circuitBreakers;
+        this.transcriptStore = transcriptStore;
+        this.observationRegistry = observationRegistry;
+        this.contextPropagation = contextPropagation;
+        this.promptPolicy = promptPolicy;
+    }
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * 선택한 모델로부터 답변을 비동기로 가져옵니다.
+     * HTTP 호출은 논블로킹으로 수행되므로 응답을 기다리는 동안 워커 스레드를 점유하지 않습니다.
+     */
+    public CompletableFuture<String> getAnswer(String question, LLMModel model) {
+        return getAnswer(question, model, false);
+    }
 
-    public AnswerService(@Qualifier("openaiRestTemplate") RestTemplate openaiRestTemplate,
-                         @Qualifier("geminiRestTemplate") RestTemplate geminiRestTemplate,
-                         GeminiDebugUtil geminiDebugUtil) {
-        this.openaiRestTemplate = openaiRestTemplate;
-        this.geminiRestTemplate = geminiRestTemplate;
-        this.geminiDebugUtil = geminiDebugUtil;
+    /**
+     * @param bypassCache true이면 캐시를 조회하지 않고 항상 모델을 호출합니다. 새 응답은 캐시에 다시 저장됩니다.
+     */
+    public CompletableFuture<String> getAnswer(String question, LLMModel model, boolean bypassCache) {
+        return getAnswerResult(question, model, bypassCache).thenApply(LLMAnswer::getText);
     }
 
-    @Async("taskExecutor")
-    public CompletableFuture<String> getAnswer(String question, LLMModel model) {
+    /**
+     * 응답 텍스트와 함께 응답 출처(요청한 모델, 대체 모델, 기본값 응답, 에러)를 반환합니다.
+     * 채점이나 모델 답변 저장처럼 출처가 중요한 호출자는 이 메서드를 사용해야 합니다.
+     */
+    public CompletableFuture<LLMAnswer> getAnswerResult(String question, LLMModel model, boolean bypassCache) {
         // 빈 질문 체크 추가
         if (question == null || question.trim().isEmpty()) {
             log.warn("Empty question received");
-            return CompletableFuture.completedFuture("");
+            return CompletableFuture.completedFuture(LLMAnswer.of("", model));
         }
 
-        // 재시도 로직 추가
-        int maxRetries = 3;
-        int currentTry = 0;
-        long retryDelay = 1000; // 1초
-
-        while (currentTry < maxRetries) {
-            try {
-                Thread.sleep(retryDelay * currentTry); // 재시도 간 딜레이
-
-                switch (model) {
-                    case GEMINI:
-                        return getAnswerFromGemini(question);
-                    case GPT_3_5:
-                    case GPT_4:
-                    case GPT_4o:
-                        // API 할당량 초과 시 Gemini로 폴백
-                        try {
-                            return getAnswerFromGPT(question, model);
-                        } catch (Exception e) {
-                            if (e.getMessage().contains("insufficient_quota")) {
-                                log.info("Falling back to Gemini due to OpenAI quota exhaustion");
-                                return getAnswerFromGemini(question);
-                            }
-                            throw e;
-                        }
-                    default:
-                        throw new IllegalArgumentException("Unsupported model: " + model);
-                }
-            } catch (Exception e) {
-                log.error("Error attempt {} of {}: {}", currentTry + 1, maxRetries, e.getMessage());
-                currentTry++;
-
-                if (currentTry == maxRetries) {
-                    return CompletableFuture.completedFuture("Error: " + e.getMessage());
-                }
+        // 재생 모드에서는 캐시를 거치지 않고 기록된 원본 응답을 다시 가공
+        boolean useCache = !transcriptStore.isReplaying();
+        String cacheKey = responseCache.key(model, question);
+        if (!bypassCache && useCache) {
+            Optional<String> cached = responseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.debug("Cache hit for model {}: {}", model, cacheKey);
+                return CompletableFuture.completedFuture(LLMAnswer.of(cached.get(), model));
             }
         }
 
-        return CompletableFuture.completedFuture("Error: Maximum retries exceeded");
+        // 대체 모델, 거부 시 재질문은 앞 호출을 완료한 스레드에서 시작하므로 호출한 스레드의 MDC와 Observation을 함께 전달
+        ContextPropagatingTaskDecorator.Snapshot context = contextPropagation.capture();
+
+        // 동일한 요청이 이미 진행 중이면 그 결과를 공유
+        return requestCoalescer.execute(cacheKey, () -> routeRequest(question, model, context)
+                .thenApply(answer -> {
+                    // 요청한 모델이 직접 생성한 응답만 캐시
+                    if (useCache && answer.getSource() == LLMAnswerSource.MODEL) {
+                        responseCache.put(cacheKey, answer.getText());
+                    }
+                    return answer;
+                }));
     }
 
+    // 제공자의 실시간 상태(회로 차단기)에 따라 요청을 보낼 모델을 결정
+    private CompletableFuture<LLMAnswer> routeRequest(String question, LLMModel model,
+                                                  ContextPropagatingTaskDecorator.Snapshot context) {
+        // 재생 결과가 현재 제공자 상태에 따라 달라지지 않도록 대체 모델 없이 기록만 사용
+        if (transcriptStore.isReplaying()) {
+            return requestFromModel(question, model, context)
+                    .thenApply(text -> LLMAnswer.of(text, model))
+                    .exceptionally(e -> LLMAnswer.error(model, unwrap(e).getMessage()));
+        }
 
-    @Async("taskExecutor")
-    public CompletableFuture<String> getAnswerFromGPT3_5(String question) {
-        return getAnswerFromGPT(question, LLMModel.GPT_3_5);
+        Optional<LLMModel> fallbackModel = fallbackModelFor(model)
+                .filter(providerRegistry::isAvailable);
+
+        if (!providerRegistry.isAvailable(model)) {
+            log.warn("{} provider is unavailable, skipping call for model {}", model.getProviderType(), model);
+            return fallbackModel
+                    .map(fallback -> requestFallback(question, model, fallback, context))
+                    .orElseGet(() -> CompletableFuture.completedFuture(
+                            lastResortAnswer(question, model, new LLMCircuitOpenException(model.getProviderType().name()))));
+        }
+
+        return requestFromModel(question, model, context)
+                .thenApply(text -> LLMAnswer.of(text, model))
+                .exceptionallyCompose(e -> {
+                    Throwable cause = unwrap(e);
+                    if (fallbackModel.isPresent() && shouldFallback(cause, model)) {
+                        log.info("Falling back to {} for {}: {}", fallbackModel.get(), model, cause.getMessage());
+                        return requestFallback(question, model, fallbackModel.get(), context);
+                    }
+                    return CompletableFuture.completedFuture(lastResortAnswer(question, model, cause));
+                });
     }
 
-    @Async("taskExecutor")
-    public CompletableFuture<String> getAnswerFromGPT4(String question) {
-        return getAnswerFromGPT(question, LLMModel.GPT_4);
+    // OpenAI 모델은 Gemini로 대체, Gemini는 대체 모델 없이 기본값 응답 사용
+    private Optional<LLMModel> fallbackModelFor(LLMModel model) {
+        return model.getProviderType() == LLMProviderType.OPENAI ? Optional.of(LLMModel.GEMINI) : Optional.empty();
     }
 
-    @Async("taskExecutor")
-    public CompletableFuture<String> getAnswerFromGPT4o(String question) {
-        return getAnswerFromGPT(question, LLMModel.GPT_4o);
+    // 할당량 소진 또는 제공자 장애(회로 열림)일 때만 다른 제공자로 대체
+    private boolean shouldFallback(Throwable cause, LLMModel model) {
+        if (cause instanceof LLMApiException apiException && apiException.isQuotaExhausted()) {
+            return true;
+        }
+        return cause instanceof LLMCircuitOpenException || !providerRegistry.isAvailable(model);
     }
 
-    private CompletableFuture<String> getAnswerFromGPT(String question, LLMModel model) {
-        ChatRequest request = new ChatRequest(model.getModelName(), question, 250);
+    private CompletableFuture<LLMAnswer> requestFallback(String question, LLMModel model, LLMModel fallbackModel,
+                                                         ContextPropagatingTaskDecorator.Snapshot context) {
+        return requestFromModel(question, fallbackModel, context)
+                .thenApply(text -> new LLMAnswer(text, model, fallbackModel, LLMAnswerSource.FALLBACK_MODEL))
+                .exceptionally(e -> lastResortAnswer(question, model, unwrap(e)));
+    }
+
+    // 모든 시도가 실패한 경우: Gemini는 기존처럼 기본값 응답을, OpenAI 모델은 에러 응답을 반환
+    private LLMAnswer lastResortAnswer(String question, LLMModel model, Throwable cause) {
+        if (model == LLMModel.GEMINI) {
+            String fallbackResult = createFallbackAnswer(question);
+            log.info("Generated synthetic fallback answer for {}: {}", model, fallbackResult);
+            return new LLMAnswer(fallbackResult, model, null, LLMAnswerSource.SYNTHETIC);
+        }
+        log.error("Failed to get answer from {}: {}", model, cause.getMessage());
+        return LLMAnswer.error(model, cause.getMessage());
+    }
 
-        // 인권보장 관련 질문인 경우 프롬프트 수정
-        if (model == LLMModel.GPT_4o && question.contains("인권")) {
-            // 질문을 더 구체적이고 윤리적 평가 관점으로 재구성
-            String modifiedQuestion = "Please evaluate from an ethical AI assessment perspective:\n" + question;
-            request = new ChatRequest(model.getModelName(), modifiedQuestion, 250);
-            log.info("Modified question for human rights assessment: {}", modifiedQuestion);
+    // 제공자 종류별 프롬프트 정책(LLMPromptPolicy) 적용 (OpenAI: 거부 시 재질문, Gemini: Yes/No 형식 강제)
+    private CompletableFuture<String> requestFromModel(String question, LLMModel model,
+                                                       ContextPropagatingTaskDecorator.Snapshot context) {
+        if (model.getProviderType() == LLMProviderType.GEMINI) {
+            return callGemini(question, model, context);
         }
+        return getAnswerFromGPT(question, model, context);
+    }
 
-        try {
-            ChatResponse response = openaiRestTemplate.postForObject(apiUrl, request, ChatResponse.class);
+    // 회로 차단기 → 요청 제어기 → 제공자 호출 순으로 감싸고, 전체를 재시도기로 실행
+    // 성공한 호출은 트랜스크립트로 기록, 재생 모드에서는 제공자 대신 기록된 응답을 사용
+    // 재시도와 대기를 포함한 호출 전체를 llm.provider.call Observation으로 기록하고, 요청 ID를 함께 남김
+    // 어느 스레드에서 호출되든 context의 Observation을 부모로 하고, 요청 제어기와 재시도기에도 context를 전달
+    private CompletableFuture<String> callProvider(LLMModel model, String prompt,
+                                                   ContextPropagatingTaskDecorator.Snapshot context) {
+        return context.call(() -> callProvider(model, prompt));
+    }
 
-            if (response == null || response.getChoices() == null || response.getChoices().isEmpty()) {
-                log.error("No response from OpenAI API for model: {}, question: {}", model, question);
-                return CompletableFuture.completedFuture("");
-            }
+    private CompletableFuture<String> callProvider(LLMModel model, String prompt) {
+        if (transcriptStore.isReplaying()) {
+            return transcriptStore.replay(model, prompt);
+        }
 
-            String answer = response.getChoices().get(0).getMessage().getContent().trim();
+        LLMProviderType providerType = model.getProviderType();
+        String provider = providerType.name().toLowerCase();
+        LLMProvider llmProvider = providerRegistry.get(model);
+        LLMCircuitBreaker breaker = circuitBreakers.get(providerType);
+        int estimatedTokens = LLMRateLimiters.estimateTokens(prompt) + MAX_TOKENS;
+        long startedAt = System.nanoTime();
+        Observation observation = Observation.createNotStarted("llm.provider.call", observationRegistry)
+                .contextualName(provider + " " + model.name())
+                .lowCardinalityKeyValue("provider", provider)
+                .lowCardinalityKeyValue("model", model.name());
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        if (requestId != null) {
+            observation.highCardinalityKeyValue("request.id", requestId);
+        }
+        observation.start();
+
+        return retryExecutor.execute(provider, () -> breaker.isOpen()
+                        ? CompletableFuture.<String>failedFuture(new LLMCircuitOpenException(provider))
+                        : rateLimiters.get(providerType).submit(estimatedTokens,
+                                () -> breaker.execute(() -> llmProvider.submit(model, prompt, MAX_TOKENS))))
+                .whenComplete((answer, e) -> {
+                    if (e == null) {
+                        providerRegistry.recordUsage(model, prompt, answer);
+                        transcriptStore.record(model, prompt, answer, (System.nanoTime() - startedAt) / 1_000_000);
+                    } else {
+                        observation.error(unwrap(e));
+                    }
+                    observation.stop();
+                });
+    }
 
-            // 응답 거부 감지 및 대체 프롬프트 시도
-            if (answer.toLowerCase().contains("i'm sorry") || answer.toLowerCase().contains("can't assist")) {
-                log.warn("Model {} refused to answer. Trying with alternative prompt...", model);
+    public CompletableFuture<String> getAnswerFromGPT3_5(String question) {
+        return getAnswerFromGPT(question, LLMModel.GPT_3_5, contextPropagation.capture());
+    }
 
-                // 대체 프롬프트로 재시도
-                String alternativeQuestion = "From an AI ethics evaluation perspective, please assess with Yes/No:\n" + question;
-                ChatRequest retryRequest = new ChatRequest(model.getModelName(), alternativeQuestion, 250);
+    public CompletableFuture<String> getAnswerFromGPT4(String question) {
+        return getAnswerFromGPT(question, LLMModel.GPT_4, contextPropagation.capture());
+    }
 
-                ChatResponse retryResponse = openaiRestTemplate.postForObject(apiUrl, retryRequest, ChatResponse.class);
-                if (retryResponse != null && retryResponse.getChoices() != null && !retryResponse.getChoices().isEmpty()) {
-                    answer = retryResponse.getChoices().get(0).getMessage().getContent().trim();
-                    log.info("Received response with alternative prompt: {}", answer);
-                }
-            }
+    public CompletableFuture<String> getAnswerFromGPT4o(String question) {
+        return getAnswerFromGPT(question, LLMModel.GPT_4o, contextPropagation.capture());
+    }
 
-            return CompletableFuture.completedFuture(answer);
-        } catch (Exception e) {
-            log.error("Error calling OpenAI API: {}", e.getMessage());
-            throw e;
-        }
+    /**
+     * 거부 응답을 받은 질문을 대체 프롬프트로 다시 묻습니다. 배치 결과의 거부 응답을 동기 호출과 같은 방식으로 처리할 때 사용합니다.
+     */
+    public CompletableFuture<String> retryRefusal(String question, LLMModel model) {
+        return callProvider(model, promptPolicy.refusalPrompt(question), contextPropagation.capture());
     }
 
-    @Async("taskExecutor")
-    public CompletableFuture<String> getAnswerFromGemini(String question) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        // 프롬프트 형식 지정
-        String formattedQuestion = "Please answer the following with only 'Yes' or 'No' for each numbered item:\n" + question;
-
-        Map<String, Object> requestBody = new HashMap<>();
-        List<Map<String, Object>> contents = new ArrayList<>();
-        Map<String, Object> content = new HashMap<>();
-        List<Map<String, String>> parts = new ArrayList<>();
-        parts.add(Collections.singletonMap("text", formattedQuestion));
-        content.put("parts", parts);
-        contents.add(content);
-        requestBody.put("contents", contents);
-
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-        String fullUrl = geminiApiUrl + "?key=" + geminiApiKey;
-
-        try {
-            log.info("Sending request to Gemini API for question: {}", question);
-            log.debug("Full Gemini API URL: {}", fullUrl);
-            log.debug("Request body: {}", objectMapper.writeValueAsString(requestBody));
-
-            // 재시도 로직 추가
-            int maxRetries = 3;
-            int currentTry = 0;
-            ResponseEntity<String> response = null;
-            Exception lastException = null;
-
-            while (currentTry < maxRetries) {
-                try {
-                    response = geminiRestTemplate.postForEntity(fullUrl, request, String.class);
-                    if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                        break;
+    private CompletableFuture<String> getAnswerFromGPT(String question, LLMModel model,
+                                                       ContextPropagatingTaskDecorator.Snapshot context) {
+        return callProvider(model, promptPolicy.prompt(question, model), context)
+                .thenCompose(answer -> {
+                    if (answer == null) {
+                        log.error("No response from OpenAI API for model: {}, question: {}", model, question);
+                        return CompletableFuture.completedFuture("");
                     }
-                } catch (Exception e) {
-                    lastException = e;
-                    log.warn("Attempt {} failed: {}", currentTry + 1, e.getMessage());
-                    Thread.sleep(1000 * (currentTry + 1)); // 지수 백오프
-                }
-                currentTry++;
-            }
 
-            if (response != null && response.getStatusCode() == HttpStatus.OK) {
-                String responseBody = response.getBody();
-                log.debug("Raw Gemini API response: {}", responseBody);
+                    // 응답 거부 감지 및 대체 프롬프트 시도
+                    if (promptPolicy.isRefusal(model, answer)) {
+                        log.warn("Model {} refused to answer. Trying with alternative prompt...", model);
+
+                        // 대체 프롬프트로 재시도
+                        return callProvider(model, promptPolicy.refusalPrompt(question), context)
+                                .thenApply(retryAnswer -> {
+                                    if (retryAnswer == null) {
+                                        return answer;
+                                    }
+                                    log.info("Received response with alternative prompt: {}", retryAnswer);
+                                    return retryAnswer;
+                                });
+                    }
 
-                String answer = extractAnswerFromResponse(responseBody);
-                if (answer != null && !answer.startsWith("Error:")) {
-                    log.info("Extracted answer from Gemini: {}", answer);
                     return CompletableFuture.completedFuture(answer);
-                }
-            }
-
-            // 실패 시 기본 응답 생성
-            String[] questions = question.split("\n");
-            StringBuilder fallbackAnswer = new StringBuilder();
-            for (String q : questions) {
-                if (q.matches(".*\\d+\\..*")) { // 숫자로 시작하는 항목만 처리
-                    fallbackAnswer.append("Yes\n"); // 기본값으로 "Yes" 응답
-                }
-            }
+                })
+                .whenComplete((answer, e) -> {
+                    if (e != null) {
+                        log.error("Error calling OpenAI API: {}", unwrap(e).getMessage());
+                    }
+                });
+    }
 
-            String fallbackResult = fallbackAnswer.toString().trim();
-            log.info("Generated fallback answer: {}", fallbackResult);
-            return CompletableFuture.completedFuture(fallbackResult);
-
-        } catch (Exception e) {
-            log.error("Error calling Gemini API: ", e);
-            // 에러 발생 시도 기본 응답 생성
-            String[] questions = question.split("\n");
-            StringBuilder fallbackAnswer = new StringBuilder();
-            for (String q : questions) {
-                if (q.matches(".*\\d+\\..*")) {
-                    fallbackAnswer.append("Yes\n");
-                }
-            }
-            return CompletableFuture.completedFuture(fallbackAnswer.toString().trim());
-        }
+    public CompletableFuture<String> getAnswerFromGemini(String question) {
+        return callGemini(question, LLMModel.GEMINI, contextPropagation.capture())
+                .exceptionally(e -> {
+                    log.error("Error calling Gemini API: ", unwrap(e));
+                    // 에러 발생 시도 기본 응답 생성
+                    return createFallbackAnswer(question);
+                });
     }
 
-    private String extractAnswerFromResponse(String responseBody) throws JsonProcessingException {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(responseBody);
-            JsonNode candidatesNode = jsonNode.path("candidates");
-
-            if (candidatesNode.isArray() && !candidatesNode.isEmpty()) {
-                JsonNode firstCandidate = candidatesNode.get(0);
-                JsonNode contentNode = firstCandidate.path("content");
-                JsonNode partsNode = contentNode.path("parts");
-
-                if (partsNode.isArray() && !partsNode.isEmpty()) {
-                    String answer = partsNode.get(0).path("text").asText().trim();
-
-                    // 응답이 Yes/No 형식인지 확인
-                    String[] lines = answer.split("\n");
-                    StringBuilder formattedAnswer = new StringBuilder();
-
-                    for (String line : lines) {
-                        if (line.toLowerCase().contains("yes")) {
-                            formattedAnswer.append("Yes\n");
-                        } else if (line.toLowerCase().contains("no")) {
-                            formattedAnswer.append("No\n");
-                        }
-                    }
+    // Gemini 호출, 응답에서 Yes/No를 추출하지 못하면 실패로 완료
+    private CompletableFuture<String> callGemini(String question, LLMModel model,
+                                                 ContextPropagatingTaskDecorator.Snapshot context) {
+        log.info("Sending request to Gemini API for question: {}", question);
 
-                    String result = formattedAnswer.toString().trim();
-                    if (!result.isEmpty()) {
-                        return result;
+        return callProvider(model, promptPolicy.prompt(question, model), context)
+                .thenApply(text -> {
+                    String answer = promptPolicy.answer(model, text);
+                    if (answer == null) {
+                        throw new IllegalStateException("No Yes/No answer in Gemini response");
                     }
-                }
+                    log.info("Extracted answer from Gemini: {}", answer);
+                    return answer;
+                });
+    }
+
+    // 숫자로 시작하는 항목마다 기본값 "Yes" 응답 생성
+    private String createFallbackAnswer(String question) {
+        String[] questions = question.split("\n");
+        StringBuilder fallbackAnswer = new StringBuilder();
+        for (String q : questions) {
+            if (q.matches(".*\\d+\\..*")) {
+                fallbackAnswer.append("Yes\n");
             }
-            return null;
-        } catch (Exception e) {
-            log.error("Error extracting answer from response: {}", responseBody, e);
-            return null;
         }
+        return fallbackAnswer.toString().trim();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,324 @@
+package com.example.elsa.domain.qna.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.elsa.domain.qna.client.LLMBatchProvider;
+import com.example.elsa.domain.qna.client.LLMProviderRegistry;
+import com.example.elsa.domain.qna.dto.ChatRequest;
+import com.example.elsa.domain.qna.entity.LLMBatch;
+import com.example.elsa.domain.qna.entity.QnaSet;
+import com.example.elsa.domain.qna.entity.Standard;
+import com.example.elsa.domain.qna.enums.LLMBatchStatus;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.repository.LLMBatchRepository;
+import com.example.elsa.domain.qna.repository.QnaSetRepository;
+import com.example.elsa.domain.qna.repository.StandardRepository;
+import com.example.elsa.global.error.CustomException;
+import com.example.elsa.global.error.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 답변 일괄 생성(배치 모드)입니다.
+ * 모든 원본 질문을 JSONL 파일 하나로 제출하고, 완료될 때까지 주기적으로 상태를 조회한 뒤 결과를 한 번에 저장합니다.
+ * <p>
+ * 배치와 제공자의 배치 ID는 DB에 기록되므로 서버가 재시작되어도 기동 시 끝나지 않은 배치의 상태 조회를 이어갑니다.
+ * 결과 저장과 완료 상태 기록은 한 트랜잭션으로 묶어, 재개할 때 같은 결과가 중복 저장되지 않게 합니다.
+ * <p>
+ * 프롬프트와 응답 정리는 동기 호출과 같은 정책(LLMPromptPolicy)을 따르며, 거부 응답은 저장하기 전에 대체 프롬프트로
+ * 다시 묻고, 다시 묻기에 실패한 답변은 저장하지 않습니다.
+ */
+@Slf4j
+@Service
+public class BatchAnswerService {
+
+	private static final int MAX_TOKENS = 250;
+	private static final String CUSTOM_ID_PREFIX = "qna-";
+	private static final Set<LLMBatchStatus> ACTIVE_STATUSES =
+		EnumSet.of(LLMBatchStatus.SUBMITTED, LLMBatchStatus.IN_PROGRESS, LLMBatchStatus.IMPORTING);
+
+	private final LLMProviderRegistry providerRegistry;
+	private final AnswerService answerService;
+	private final LLMPromptPolicy promptPolicy;
+	private final StandardRepository standardRepository;
+	private final QnaSetRepository qnaSetRepository;
+	private final LLMBatchRepository batchRepository;
+	private final StandardService standardService;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolTaskScheduler llmScheduler;
+	private final Executor ingestExecutor;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${llm.batch.poll-interval:60s}")
+	private Duration pollInterval;
+
+	public BatchAnswerService(LLMProviderRegistry providerRegistry,
+		AnswerService answerService,
+		LLMPromptPolicy promptPolicy,
+		StandardRepository standardRepository,
+		QnaSetRepository qnaSetRepository,
+		LLMBatchRepository batchRepository,
+		StandardService standardService,
+		TransactionTemplate transactionTemplate,
+		@Qualifier("llmScheduler") ThreadPoolTaskScheduler llmScheduler,
+		@Qualifier("ingestExecutor") Executor ingestExecutor) {
+		this.providerRegistry = providerRegistry;
+		this.answerService = answerService;
+		this.promptPolicy = promptPolicy;
+		this.standardRepository = standardRepository;
+		this.qnaSetRepository = qnaSetRepository;
+		this.batchRepository = batchRepository;
+		this.standardService = standardService;
+		this.transactionTemplate = transactionTemplate;
+		this.llmScheduler = llmScheduler;
+		this.ingestExecutor = ingestExecutor;
+	}
+
+	/**
+	 * 답변이 없는 원본 질문(model == null)을 배치로 제출합니다. 제공자에 업로드를 시작하면 바로 반환하며,
+	 * 제공자의 접수, 상태 조회, 결과 저장은 백그라운드에서 진행됩니다.
+	 */
+	public Map<String, Object> submitBatch(LLMModel model) {
+		LLMBatchProvider batchProvider = providerRegistry.get(model).batch()
+			.filter(provider -> provider.supports(model))
+			.orElseThrow(() -> new CustomException(ErrorCode.BAD_REQUEST));
+
+		Path requestFile;
+		int requestCount;
+		try {
+			requestFile = Files.createTempFile("llm-batch-" + model.name().toLowerCase() + "-", ".jsonl");
+			requestCount = writeRequestFile(requestFile, model);
+		} catch (IOException e) {
+			log.error("Failed to write batch request file for model: {}", model, e);
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+
+		if (requestCount == 0) {
+			deleteQuietly(requestFile);
+			throw new CustomException(ErrorCode.DATA_NOT_FOUND);
+		}
+
+		LLMBatch batch = batchRepository.save(new LLMBatch(batchProvider.getName(), model, requestCount));
+		Long batchId = batch.getId();
+		batchProvider.submit(requestFile)
+			.whenComplete((providerBatchId, e) -> {
+				deleteQuietly(requestFile);
+				if (e != null) {
+					fail(batchId, "Batch submission failed: " + e.getMessage());
+					return;
+				}
+				update(batchId, submitted -> submitted.accepted(providerBatchId));
+				log.info("Submitted {} batch {} ({}) with {} requests for model {}", batchProvider.getName(), batchId,
+					providerBatchId, requestCount, model);
+				schedulePoll(batchId);
+			});
+		return toMap(batch);
+	}
+
+	public Map<String, Object> getBatchStatus(Long batchId) {
+		return batchRepository.findById(batchId)
+			.map(this::toMap)
+			.orElseThrow(() -> new CustomException(ErrorCode.DATA_NOT_FOUND));
+	}
+
+	// 재시작 전에 끝나지 않은 배치의 상태 조회를 이어감, 제공자가 접수하기 전에 중단된 배치는 실패로 기록
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeBatches() {
+		for (LLMBatch batch : batchRepository.findByStatusIn(ACTIVE_STATUSES)) {
+			if (batch.getProviderBatchId() == null) {
+				fail(batch.getId(), "Interrupted before the provider accepted the batch");
+				continue;
+			}
+			log.info("Resuming {} batch {} ({}) for model {}", batch.getProvider(), batch.getId(),
+				batch.getProviderBatchId(), batch.getModel());
+			schedulePoll(batch.getId());
+		}
+	}
+
+	private int writeRequestFile(Path requestFile, LLMModel model) throws IOException {
+		int count = 0;
+		try (BufferedWriter writer = Files.newBufferedWriter(requestFile, StandardCharsets.UTF_8)) {
+			for (Standard standard : standardRepository.findAll()) {
+				for (QnaSet qnaSet : standard.getQnaSetList()) {
+					if (qnaSet.getModel() != null) {  // 원본 질문만 처리
+						continue;
+					}
+					Map<String, Object> request = new LinkedHashMap<>();
+					request.put("custom_id", CUSTOM_ID_PREFIX + qnaSet.getId());
+					request.put("method", "POST");
+					request.put("url", "/v1/chat/completions");
+					request.put("body", new ChatRequest(model.getModelName(),
+						promptPolicy.prompt(qnaSet.getQuestion(), model), MAX_TOKENS));
+					writer.write(objectMapper.writeValueAsString(request));
+					writer.newLine();
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private void schedulePoll(Long batchId) {
+		llmScheduler.schedule(() -> poll(batchId), Instant.now().plus(pollInterval));
+	}
+
+	private void poll(Long batchId) {
+		LLMBatch batch = batchRepository.findById(batchId).orElseThrow();
+		Optional<LLMBatchProvider> batchProvider = batchProvider(batch);
+		if (batchProvider.isEmpty()) {
+			fail(batchId, "Batch provider " + batch.getProvider() + " is no longer configured for " + batch.getModel());
+			return;
+		}
+
+		batchProvider.get().poll(batch.getProviderBatchId())
+			.whenComplete((status, e) -> {
+				if (e != null) {
+					// 일시적인 조회 실패는 다음 주기에 다시 시도
+					log.warn("Failed to poll batch {}: {}", batchId, e.getMessage());
+					schedulePoll(batchId);
+				} else if (status == LLMBatchStatus.COMPLETED) {
+					update(batchId, LLMBatch::importing);
+					importResults(batch, batchProvider.get());
+				} else if (status == LLMBatchStatus.FAILED) {
+					fail(batchId, "Batch ended without results");
+				} else {
+					if (batch.getStatus() != LLMBatchStatus.IN_PROGRESS) {
+						update(batchId, LLMBatch::inProgress);
+					}
+					schedulePoll(batchId);
+				}
+			});
+	}
+
+	private void importResults(LLMBatch batch, LLMBatchProvider batchProvider) {
+		LLMModel model = batch.getModel();
+		batchProvider.results(batch.getProviderBatchId())
+			.thenComposeAsync(results -> {
+				Map<Long, String> answers = new HashMap<>();
+				results.forEach((customId, text) -> {
+					String answer = promptPolicy.answer(model, text);
+					if (customId.startsWith(CUSTOM_ID_PREFIX) && answer != null && !answer.isEmpty()) {
+						answers.put(Long.parseLong(customId.substring(CUSTOM_ID_PREFIX.length())), answer);
+					}
+				});
+				return retryRefusals(model, answers);
+			}, ingestExecutor)
+			.thenAcceptAsync(answers -> {
+				int imported = transactionTemplate.execute(status -> {
+					int count = standardService.importModelAnswers(batch.getModel(), answers);
+					update(batch.getId(), completed -> completed.complete(count));
+					return count;
+				});
+				log.info("Imported {} of {} answers from batch {}", imported, batch.getRequestCount(), batch.getId());
+			}, ingestExecutor)
+			.exceptionally(e -> {
+				log.error("Failed to import batch {}", batch.getId(), e);
+				fail(batch.getId(), e.getMessage());
+				return null;
+			});
+	}
+
+	// 거부 응답을 동기 호출과 같은 대체 프롬프트로 다시 물어 바꿈, 다시 묻기에 실패한 답변은 제외
+	private CompletableFuture<Map<Long, String>> retryRefusals(LLMModel model, Map<Long, String> answers) {
+		List<Long> refusedIds = answers.entrySet().stream()
+			.filter(entry -> promptPolicy.isRefusal(model, entry.getValue()))
+			.map(Map.Entry::getKey)
+			.toList();
+		if (refusedIds.isEmpty()) {
+			return CompletableFuture.completedFuture(answers);
+		}
+
+		log.warn("Model {} refused {} batch answers. Retrying with alternative prompt...", model, refusedIds.size());
+		List<CompletableFuture<Void>> retries = new ArrayList<>();
+		Map<Long, String> retried = new ConcurrentHashMap<>();
+		for (QnaSet qnaSet : qnaSetRepository.findAllById(refusedIds)) {
+			retries.add(answerService.retryRefusal(qnaSet.getQuestion(), model)
+				.thenAccept(answer -> {
+					if (answer != null && !answer.isEmpty()) {
+						retried.put(qnaSet.getId(), answer);
+					}
+				})
+				.exceptionally(e -> {
+					log.warn("Failed to retry refused batch answer {}: {}", qnaSet.getId(), e.getMessage());
+					return null;
+				}));
+		}
+		return CompletableFuture.allOf(retries.toArray(new CompletableFuture<?>[0]))
+			.thenApply(ignored -> {
+				Map<Long, String> result = new HashMap<>(answers);
+				result.keySet().removeAll(refusedIds);
+				result.putAll(retried);
+				return result;
+			});
+	}
+
+	// 배치를 제출한 제공자, 설정이 바뀌어 같은 제공자를 찾을 수 없으면 empty
+	private Optional<LLMBatchProvider> batchProvider(LLMBatch batch) {
+		return providerRegistry.get(batch.getModel()).batch()
+			.filter(provider -> provider.getName().equals(batch.getProvider()));
+	}
+
+	// 제출/조회 콜백은 서로 다른 스레드에서 실행되므로 매번 다시 읽어 변경
+	private void update(Long batchId, Consumer<LLMBatch> change) {
+		LLMBatch batch = batchRepository.findById(batchId).orElseThrow();
+		change.accept(batch);
+		batchRepository.save(batch);
+	}
+
+	private void fail(Long batchId, String error) {
+		update(batchId, batch -> batch.fail(error));
+		log.error("Batch {} failed: {}", batchId, error);
+	}
+
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.debug("Failed to delete batch request file: {}", file);
+		}
+	}
+
+	private Map<String, Object> toMap(LLMBatch batch) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("batchId", batch.getId());
+		map.put("providerBatchId", batch.getProviderBatchId());
+		map.put("provider", batch.getProvider());
+		map.put("model", batch.getModel());
+		map.put("status", batch.getStatus());
+		map.put("requestCount", batch.getRequestCount());
+		map.put("importedCount", batch.getImportedCount());
+		map.put("submittedAt", batch.getCreatedAt());
+		map.put("finishedAt", batch.getFinishedAt());
+		if (batch.getErrorMessage() != null) {
+			map.put("error", batch.getErrorMessage());
+		}
+		return map;
+	}
+}
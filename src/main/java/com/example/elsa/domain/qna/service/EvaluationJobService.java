@@ -0,0 +1,406 @@
+package com.example.elsa.domain.qna.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.elsa.domain.qna.entity.EvaluationJob;
+import com.example.elsa.domain.qna.entity.EvaluationJobItem;
+import com.example.elsa.domain.qna.entity.QnaSet;
+import com.example.elsa.domain.qna.entity.Standard;
+import com.example.elsa.domain.qna.enums.EvaluationJobStatus;
+import com.example.elsa.domain.qna.enums.EvaluationJobType;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.repository.EvaluationJobItemRepository;
+import com.example.elsa.domain.qna.repository.EvaluationJobRepository;
+import com.example.elsa.domain.qna.repository.StandardRepository;
+import com.example.elsa.global.common.DbBatchObserver;
+import com.example.elsa.global.error.CustomException;
+import com.example.elsa.global.error.ErrorCode;
+import com.example.elsa.global.util.PythonExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 채점/답변 생성을 작업 단위로 실행합니다.
+ * <p>
+ * 작업과 처리를 마친 QnaSet은 DB에 기록되므로 HTTP 연결이 끊기거나 서버가 재시작되어도 진행 상황이 남고,
+ * 기동 시 끝나지 않은 작업을 마지막 체크포인트부터 이어서 실행합니다. 체크포인트는 일정 개수씩 모아 한 번에 저장합니다.
+ */
+@Slf4j
+@Service
+public class EvaluationJobService {
+
+	private static final Set<EvaluationJobStatus> ACTIVE_STATUSES =
+		EnumSet.of(EvaluationJobStatus.PENDING, EvaluationJobStatus.RUNNING);
+
+	private final EvaluationJobRepository jobRepository;
+	private final EvaluationJobItemRepository itemRepository;
+	private final StandardRepository standardRepository;
+	private final StandardService standardService;
+	private final AnswerService answerService;
+	private final ScoringEngine scoringEngine;
+	private final PythonExecutor pythonExecutor;
+	private final DbBatchObserver dbBatchObserver;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor llmExecutor;
+
+	// 이 인스턴스에서 실행 중인 작업 ID → 작업 결과
+	private final Map<Long, CompletableFuture<Map<String, Object>>> running = new ConcurrentHashMap<>();
+
+	@Value("${llm.jobs.checkpoint-batch-size:50}")
+	private int checkpointBatchSize;
+
+	// 답변 생성 직후 같은 흐름에서 감성 분석까지 수행하고 답변과 함께 저장 (체크포인트마다 배치 요청 한 번)
+	@Value("${llm.jobs.sentiment-stage:false}")
+	private boolean sentimentStage;
+
+	public EvaluationJobService(EvaluationJobRepository jobRepository,
+		EvaluationJobItemRepository itemRepository,
+		StandardRepository standardRepository,
+		StandardService standardService,
+		AnswerService answerService,
+		ScoringEngine scoringEngine,
+		PythonExecutor pythonExecutor,
+		DbBatchObserver dbBatchObserver,
+		TransactionTemplate transactionTemplate,
+		@Qualifier("llmExecutor") Executor llmExecutor) {
+		this.jobRepository = jobRepository;
+		this.itemRepository = itemRepository;
+		this.standardRepository = standardRepository;
+		this.standardService = standardService;
+		this.answerService = answerService;
+		this.scoringEngine = scoringEngine;
+		this.pythonExecutor = pythonExecutor;
+		this.dbBatchObserver = dbBatchObserver;
+		this.transactionTemplate = transactionTemplate;
+		this.llmExecutor = llmExecutor;
+	}
+
+	/**
+	 * 작업을 생성하고 백그라운드에서 실행합니다. 같은 종류/모델의 작업이 이미 진행 중이면 그 작업을 반환합니다.
+	 *
+	 * @param incremental 채점 작업에서 질문/기대 답변/프롬프트가 바뀐 QnaSet만 다시 채점
+	 */
+	public synchronized Map<String, Object> submitJob(EvaluationJobType type, LLMModel model, boolean incremental) {
+		EvaluationJob job = jobRepository.findByStatusIn(ACTIVE_STATUSES).stream()
+			.filter(active -> active.getType() == type && active.getModel() == model)
+			.findFirst()
+			.orElseGet(() -> jobRepository.save(new EvaluationJob(type, model, incremental, countItems(type))));
+		start(job.getId());
+		return toMap(job);
+	}
+
+	/**
+	 * 작업을 제출하고 끝날 때까지 기다립니다. 기다리는 쪽의 연결이 끊겨도 작업은 계속 실행됩니다.
+	 */
+	public Map<String, Object> runJob(EvaluationJobType type, LLMModel model, boolean incremental) {
+		Long jobId = (Long)submitJob(type, model, incremental).get("jobId");
+		CompletableFuture<Map<String, Object>> result = running.get(jobId);
+		if (result == null) {
+			return getJobStatus(jobId);
+		}
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	public Map<String, Object> getJobStatus(Long jobId) {
+		return jobRepository.findById(jobId)
+			.map(this::toMap)
+			.orElseThrow(() -> new CustomException(ErrorCode.DATA_NOT_FOUND));
+	}
+
+	public List<Map<String, Object>> getRecentJobs() {
+		return jobRepository.findTop50ByOrderByIdDesc().stream()
+			.map(this::toMap)
+			.collect(Collectors.toList());
+	}
+
+	// 재시작 전에 끝나지 않은 작업을 마지막 체크포인트부터 이어서 실행
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeJobs() {
+		for (EvaluationJob job : jobRepository.findByStatusIn(ACTIVE_STATUSES)) {
+			log.info("Resuming {} job {} for model {} from checkpoint", job.getType(), job.getId(), job.getModel());
+			start(job.getId());
+		}
+	}
+
+	private void start(Long jobId) {
+		CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+		if (running.putIfAbsent(jobId, future) != null) {
+			return;
+		}
+		CompletableFuture.supplyAsync(() -> jobRepository.findById(jobId).orElseThrow(), llmExecutor)
+			.thenCompose(job -> {
+				job.start();
+				jobRepository.save(job);
+				return job.getType() == EvaluationJobType.SCORE ? runScoring(job) : runGeneration(job);
+			})
+			.whenComplete((result, e) -> {
+				try {
+					finish(jobId, e);
+				} finally {
+					running.remove(jobId);
+					if (e != null) {
+						future.completeExceptionally(e);
+					} else {
+						future.complete(result);
+					}
+				}
+			});
+	}
+
+	// 실패하거나 대체 응답을 받아 기록되지 않은 항목이 있으면 COMPLETED 대신 FAILED로 끝내고 남은 수를 기록
+	private void finish(Long jobId, Throwable error) {
+		EvaluationJob job = jobRepository.findById(jobId).orElseThrow();
+		if (error == null) {
+			int missing = (int)Math.max(0, job.getTotalItems() - itemRepository.countByJobId(jobId));
+			if (missing > 0) {
+				job.failWithMissingItems(missing);
+				log.warn("{} job {} for model {} finished with {} of {} items not completed", job.getType(), jobId,
+					job.getModel(), missing, job.getTotalItems());
+			} else {
+				job.complete();
+				log.info("{} job {} for model {} completed", job.getType(), jobId, job.getModel());
+			}
+		} else {
+			Throwable cause = error instanceof CompletionException && error.getCause() != null
+				? error.getCause() : error;
+			job.fail(cause.getMessage());
+			log.error("{} job {} for model {} failed", job.getType(), jobId, job.getModel(), cause);
+		}
+		jobRepository.save(job);
+	}
+
+	private CompletableFuture<Map<String, Object>> runScoring(EvaluationJob job) {
+		List<Standard> standards = standardService.getScorableStandards();
+		ScoreCheckpoint checkpoint = new ScoreCheckpoint(job.getId(), itemRepository.findByJobId(job.getId()));
+
+		return scoringEngine.score(standards, job.getModel(), true, job.isIncremental(), checkpoint)
+			.whenComplete((results, e) -> checkpoint.flush())
+			.thenApply(results -> {
+				Map<String, Object> scores = new HashMap<>();
+				results.forEach((standardName, result) ->
+					scores.put(standardName, Map.of("score", Double.parseDouble((String)result.get("score")))));
+				return scores;
+			});
+	}
+
+	// 답변이 없는 원본 질문(model == null) 중 체크포인트에 없는 것만 요청하고, 일정 개수씩 답변과 체크포인트를 함께 저장
+	private CompletableFuture<Map<String, Object>> runGeneration(EvaluationJob job) {
+		LLMModel model = job.getModel();
+		Set<Long> done = itemRepository.findByJobId(job.getId()).stream()
+			.map(EvaluationJobItem::getQnaSetId)
+			.collect(Collectors.toSet());
+		AnswerCheckpoint checkpoint = new AnswerCheckpoint(job.getId(), model);
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (Standard standard : standardRepository.findAll()) {
+			for (QnaSet qnaSet : standard.getQnaSetList()) {
+				if (qnaSet.getModel() != null || done.contains(qnaSet.getId())) {
+					continue;
+				}
+				String question = qnaSet.getQuestion();
+				futures.add(answerService.getAnswerResult(question, model, false)
+					.thenAccept(answer -> {
+						// 대체 모델/기본값/에러 응답은 이 모델의 답변으로 저장하지 않고, 재개할 때 다시 요청
+						if (answer.isSynthetic() || answer.isError()) {
+							log.warn("Skipping {} answer for question: {} with model: {}", answer.getSource(),
+								question, model);
+							return;
+						}
+						checkpoint.add(standard, qnaSet, answer.getText());
+					})
+					.exceptionally(e -> {
+						log.error("Error getting answer for question: {} with model: {}", question, model, e);
+						return null;
+					}));
+			}
+		}
+		log.info("Generating {} answers for model {} ({} already checkpointed)", futures.size(), model, done.size());
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+			.whenComplete((ignored, e) -> checkpoint.flush())
+			.thenApply(ignored -> Map.of("generatedCount", checkpoint.getSaved()));
+	}
+
+	private int countItems(EvaluationJobType type) {
+		if (type == EvaluationJobType.SCORE) {
+			return standardService.getScorableStandards().stream()
+				.mapToInt(standard -> standard.getQnaSetList().size())
+				.sum();
+		}
+		return (int)standardRepository.findAll().stream()
+			.flatMap(standard -> standard.getQnaSetList().stream())
+			.filter(qnaSet -> qnaSet.getModel() == null)
+			.count();
+	}
+
+	private Map<String, Object> toMap(EvaluationJob job) {
+		long completedItems = itemRepository.countByJobId(job.getId());
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("jobId", job.getId());
+		map.put("type", job.getType());
+		map.put("model", job.getModel());
+		map.put("status", job.getStatus());
+		map.put("incremental", job.isIncremental());
+		map.put("totalItems", job.getTotalItems());
+		map.put("completedItems", completedItems);
+		if (job.getMissingItems() != null) {
+			map.put("missingItems", job.getMissingItems());
+		}
+		map.put("progress", job.getTotalItems() > 0
+			? String.format("%.1f", 100.0 * completedItems / job.getTotalItems()) : "0.0");
+		map.put("createdAt", job.getCreatedAt());
+		map.put("startedAt", job.getStartedAt());
+		map.put("finishedAt", job.getFinishedAt());
+		if (job.getErrorMessage() != null) {
+			map.put("error", job.getErrorMessage());
+		}
+		return map;
+	}
+
+	/**
+	 * 채점 작업의 체크포인트. 기록된 결과는 스탠다드별로 합산해 두었다가 재개할 때 집계에 더합니다.
+	 */
+	private class ScoreCheckpoint implements ScoringCheckpoint {
+
+		private final Long jobId;
+		private final Set<Long> done;
+		private final Map<Long, int[]> restoredByStandard = new HashMap<>();
+		private final List<EvaluationJobItem> buffer = new ArrayList<>();
+
+		ScoreCheckpoint(Long jobId, List<EvaluationJobItem> items) {
+			this.jobId = jobId;
+			this.done = items.stream().map(EvaluationJobItem::getQnaSetId).collect(Collectors.toSet());
+			for (EvaluationJobItem item : items) {
+				int[] sum = restoredByStandard.computeIfAbsent(item.getStandardId(), id -> new int[2]);
+				sum[0] += item.getQuestionCount();
+				sum[1] += item.getCorrectCount();
+			}
+		}
+
+		@Override
+		public boolean isDone(QnaSet qnaSet) {
+			return done.contains(qnaSet.getId());
+		}
+
+		@Override
+		public int[] restored(Standard standard) {
+			return restoredByStandard.getOrDefault(standard.getId(), new int[2]).clone();
+		}
+
+		@Override
+		public void record(Standard standard, QnaSet qnaSet, int[] result) {
+			boolean full;
+			synchronized (this) {
+				buffer.add(new EvaluationJobItem(jobId, qnaSet.getId(), standard.getId(), result[0], result[1]));
+				full = buffer.size() >= checkpointBatchSize;
+			}
+			if (full) {
+				flush();
+			}
+		}
+
+		void flush() {
+			List<EvaluationJobItem> items;
+			synchronized (this) {
+				if (buffer.isEmpty()) {
+					return;
+				}
+				items = new ArrayList<>(buffer);
+				buffer.clear();
+			}
+			dbBatchObserver.observe("job-score-items", items.size(), () -> itemRepository.saveAll(items));
+		}
+	}
+
+	/**
+	 * 답변 생성 작업의 체크포인트. 답변 저장과 체크포인트 기록을 한 트랜잭션으로 묶어 재개할 때 같은 답변이 중복 저장되지 않게 합니다.
+	 * 감성 분석 단계가 켜져 있으면 저장하기 전에 모아 둔 답변을 배치 요청 한 번으로 분석합니다.
+	 */
+	private class AnswerCheckpoint {
+
+		private final Long jobId;
+		private final LLMModel model;
+		private final Map<Long, String> answers = new LinkedHashMap<>();
+		private final List<EvaluationJobItem> items = new ArrayList<>();
+		private final AtomicInteger saved = new AtomicInteger();
+
+		AnswerCheckpoint(Long jobId, LLMModel model) {
+			this.jobId = jobId;
+			this.model = model;
+		}
+
+		void add(Standard standard, QnaSet qnaSet, String answer) {
+			boolean full;
+			synchronized (this) {
+				answers.put(qnaSet.getId(), answer);
+				items.add(new EvaluationJobItem(jobId, qnaSet.getId(), standard.getId(), 0, 0));
+				full = items.size() >= checkpointBatchSize;
+			}
+			if (full) {
+				flush();
+			}
+		}
+
+		// 같은 스탠다드를 동시에 갱신하지 않도록 저장은 한 번에 하나씩
+		synchronized void flush() {
+			if (items.isEmpty()) {
+				return;
+			}
+			Map<Long, String> batch = new LinkedHashMap<>(answers);
+			List<EvaluationJobItem> batchItems = new ArrayList<>(items);
+			answers.clear();
+			items.clear();
+			Map<Long, Double> batchSentiments = sentimentStage ? analyze(batch) : Map.of();
+			dbBatchObserver.observe("job-answers", batchItems.size(),
+				() -> transactionTemplate.executeWithoutResult(status -> {
+					saved.addAndGet(standardService.importModelAnswers(model, batch, batchSentiments));
+					itemRepository.saveAll(batchItems);
+				}));
+		}
+
+		// 원본 QnaSet ID → 감성 분석 결과(분석하지 못했으면 null)
+		// 분석이 실패해도 답변은 저장하고, 결과를 기록하지 않아 이후 전체 감성 분석에서 다시 분석
+		private Map<Long, Double> analyze(Map<Long, String> batch) {
+			List<Long> ids = new ArrayList<>(batch.keySet());
+			List<Double> scores;
+			try {
+				scores = pythonExecutor.executeSentimentAnalysisBatch(new ArrayList<>(batch.values())).join();
+			} catch (CompletionException e) {
+				log.warn("Sentiment stage failed for {} answers with model: {}", ids.size(), model, e.getCause());
+				return Map.of();
+			}
+			Map<Long, Double> sentiments = new HashMap<>();
+			for (int i = 0; i < ids.size(); i++) {
+				sentiments.put(ids.get(i), scores.get(i));
+			}
+			return sentiments;
+		}
+
+		int getSaved() {
+			return saved.get();
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.elsa.domain.qna.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.dto.LLMAnswer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 (모델, 프롬프트) 요청이 동시에 들어오면 진행 중인 하나의 호출 결과를 공유합니다(single-flight).
+ */
+@Slf4j
+@Component
+public class LLMRequestCoalescer {
+
+	private final ConcurrentHashMap<String, CompletableFuture<LLMAnswer>> inFlight = new ConcurrentHashMap<>();
+	private final Counter savedCalls;
+
+	public LLMRequestCoalescer(MeterRegistry meterRegistry) {
+		this.savedCalls = Counter.builder("llm.singleflight.saved")
+			.description("Upstream LLM calls avoided by joining an identical in-flight request")
+			.register(meterRegistry);
+		Gauge.builder("llm.singleflight.in.flight", inFlight, ConcurrentHashMap::size).register(meterRegistry);
+	}
+
+	/**
+	 * key에 대한 호출이 진행 중이면 그 결과를 공유하고, 없으면 call을 실행합니다.
+	 * 반환되는 future는 호출자별 복사본이므로 한 호출자가 취소해도 다른 호출자에게 영향을 주지 않습니다.
+	 */
+	public CompletableFuture<LLMAnswer> execute(String key, Supplier<CompletableFuture<LLMAnswer>> call) {
+		CompletableFuture<LLMAnswer> created = new CompletableFuture<>();
+		CompletableFuture<LLMAnswer> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			savedCalls.increment();
+			log.debug("Joined in-flight request: {}", key);
+			return existing.copy();
+		}
+
+		CompletableFuture<LLMAnswer> upstream;
+		try {
+			upstream = call.get();
+		} catch (Throwable e) {
+			upstream = CompletableFuture.failedFuture(e);
+		}
+
+		upstream.whenComplete((answer, e) -> {
+			// 완료 전에 제거해야 이후 요청이 끝난 호출에 합류하지 않고 캐시를 조회함
+			inFlight.remove(key, created);
+			if (e != null) {
+				created.completeExceptionally(e);
+			} else {
+				created.complete(answer);
+			}
+		});
+		return created.copy();
+	}
+
+	public long getSavedCalls() {
+		return (long)savedCalls.count();
+	}
+}
@@ -0,0 +1,133 @@
+package com.example.elsa.domain.qna.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 응답 캐시입니다.
+ * 1차 캐시는 프로세스 내부의 크기 제한 캐시(Caffeine, W-TinyLFU), 2차 캐시는 Redis이며
+ * 키는 모델 이름과 정규화된 프롬프트의 해시로 구성됩니다.
+ */
+@Slf4j
+@Component
+public class LLMResponseCache {
+
+	private static final String KEY_PREFIX = "llm:answer:";
+	// 프롬프트 정책을 적용하지 않은 스트리밍 원본 응답, 일반 응답과 키를 공유하지 않음
+	private static final String STREAM_KEY_PREFIX = "llm:stream:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final Cache<String, String> localCache;
+	private final boolean enabled;
+	private final Duration ttl;
+
+	private final Counter localHits;
+	private final Counter redisHits;
+	private final Counter misses;
+
+	public LLMResponseCache(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry,
+		@Value("${llm.cache.enabled:true}") boolean enabled,
+		@Value("${llm.cache.local-max-size:10000}") long localMaxSize,
+		@Value("${llm.cache.ttl:7d}") Duration ttl) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+		this.ttl = ttl;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterWrite(ttl)
+			.build();
+
+		this.localHits = Counter.builder("llm.cache.requests").tag("tier", "local").tag("result", "hit")
+			.register(meterRegistry);
+		this.redisHits = Counter.builder("llm.cache.requests").tag("tier", "redis").tag("result", "hit")
+			.register(meterRegistry);
+		this.misses = Counter.builder("llm.cache.requests").tag("tier", "none").tag("result", "miss")
+			.register(meterRegistry);
+		meterRegistry.gauge("llm.cache.local.size", localCache, Cache::estimatedSize);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public String key(LLMModel model, String prompt) {
+		return KEY_PREFIX + model.name() + ":" + sha256(normalize(prompt));
+	}
+
+	public String streamKey(LLMModel model, String prompt) {
+		return STREAM_KEY_PREFIX + model.name() + ":" + sha256(normalize(prompt));
+	}
+
+	public Optional<String> get(String key) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		String local = localCache.getIfPresent(key);
+		if (local != null) {
+			localHits.increment();
+			return Optional.of(local);
+		}
+
+		try {
+			Object remote = redisTemplate.opsForValue().get(key);
+			if (remote != null) {
+				// Redis 적중 시 1차 캐시에도 채워 넣음
+				localCache.put(key, remote.toString());
+				redisHits.increment();
+				return Optional.of(remote.toString());
+			}
+		} catch (Exception e) {
+			log.warn("Redis lookup failed for {}: {}", key, e.getMessage());
+		}
+
+		misses.increment();
+		return Optional.empty();
+	}
+
+	public void put(String key, String answer) {
+		if (!enabled || answer == null || answer.isEmpty()) {
+			return;
+		}
+
+		localCache.put(key, answer);
+		try {
+			redisTemplate.opsForValue().set(key, answer, ttl);
+		} catch (Exception e) {
+			log.warn("Redis write failed for {}: {}", key, e.getMessage());
+		}
+	}
+
+	// 줄바꿈 형식, 줄 끝 공백, 연속 공백 차이로 캐시가 갈라지지 않도록 정규화
+	static String normalize(String prompt) {
+		return prompt.replace("\r\n", "\n")
+			.replaceAll("[ \\t\\x0B\\f]+", " ")
+			.replaceAll(" *\n *", "\n")
+			.trim();
+	}
+
+	static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
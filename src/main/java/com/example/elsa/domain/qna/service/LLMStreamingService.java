@@ -0,0 +1,162 @@
+package com.example.elsa.domain.qna.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.elsa.domain.qna.client.LLMCircuitBreaker;
+import com.example.elsa.domain.qna.client.LLMCircuitBreakers;
+import com.example.elsa.domain.qna.client.LLMCircuitOpenException;
+import com.example.elsa.domain.qna.client.LLMProvider;
+import com.example.elsa.domain.qna.client.LLMProviderRegistry;
+import com.example.elsa.domain.qna.client.LLMRateLimiters;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.enums.LLMProviderType;
+import com.example.elsa.global.common.RequestIdFilter;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자의 스트리밍 응답(OpenAI stream=true, Gemini streamGenerateContent)을 SSE로 그대로 중계합니다.
+ * 응답은 HTTP 클라이언트 스레드에서 도착하는 대로 전송되며, 서블릿 스레드는 요청 직후 반환됩니다.
+ * <p>
+ * 이벤트: {@code token}(부분 응답), {@code done}(정상 종료), {@code error}(실패 사유)
+ * <p>
+ * AnswerService의 프롬프트 정책(GPT-4o 윤리 평가 문구, Gemini Yes/No 형식, 거부 시 재질문)을 적용하지 않은 원본 응답이므로
+ * 캐시도 별도의 키({@link LLMResponseCache#streamKey})를 사용하고, 끝까지 받은 응답만 저장합니다.
+ * 제공자 호출은 AnswerService와 같은 llm.provider.call Observation으로 기록하고, 끝까지 받은 응답은 트랜스크립트에도 남깁니다.
+ */
+@Slf4j
+@Service
+public class LLMStreamingService {
+
+	private static final int MAX_TOKENS = 250;
+
+	private final LLMProviderRegistry providerRegistry;
+	private final LLMRateLimiters rateLimiters;
+	private final LLMCircuitBreakers circuitBreakers;
+	private final LLMResponseCache responseCache;
+	private final LLMTranscriptStore transcriptStore;
+	private final ObservationRegistry observationRegistry;
+
+	@Value("${llm.stream.timeout:120s}")
+	private Duration streamTimeout;
+
+	public LLMStreamingService(LLMProviderRegistry providerRegistry,
+		LLMRateLimiters rateLimiters,
+		LLMCircuitBreakers circuitBreakers,
+		LLMResponseCache responseCache,
+		LLMTranscriptStore transcriptStore,
+		ObservationRegistry observationRegistry) {
+		this.providerRegistry = providerRegistry;
+		this.rateLimiters = rateLimiters;
+		this.circuitBreakers = circuitBreakers;
+		this.responseCache = responseCache;
+		this.transcriptStore = transcriptStore;
+		this.observationRegistry = observationRegistry;
+	}
+
+	public SseEmitter stream(String question, LLMModel model) {
+		SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+		AtomicBoolean closed = new AtomicBoolean(false);
+		emitter.onCompletion(() -> closed.set(true));
+		emitter.onTimeout(() -> closed.set(true));
+		emitter.onError(e -> closed.set(true));
+
+		// 이미 캐시된 응답은 한 번에 전송
+		String cacheKey = responseCache.streamKey(model, question);
+		Optional<String> cached = responseCache.get(cacheKey);
+		if (cached.isPresent()) {
+			send(emitter, closed, "token", cached.get());
+			complete(emitter, closed);
+			return emitter;
+		}
+
+		LLMProviderType providerType = model.getProviderType();
+		LLMProvider provider = providerRegistry.get(model);
+		LLMCircuitBreaker breaker = circuitBreakers.get(providerType);
+		int estimatedTokens = LLMRateLimiters.estimateTokens(question) + MAX_TOKENS;
+		StringBuilder answer = new StringBuilder();
+		Consumer<String> onDelta = delta -> {
+			onDelta(delta, emitter, closed);
+			synchronized (answer) {
+				answer.append(delta);
+			}
+		};
+
+		String providerName = providerType.name().toLowerCase();
+		Observation observation = Observation.createNotStarted("llm.provider.call", observationRegistry)
+			.contextualName(providerName + " " + model.name())
+			.lowCardinalityKeyValue("provider", providerName)
+			.lowCardinalityKeyValue("model", model.name());
+		String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+		if (requestId != null) {
+			observation.highCardinalityKeyValue("request.id", requestId);
+		}
+		long startedAt = System.nanoTime();
+		observation.start();
+
+		CompletableFuture<Void> streaming = breaker.isOpen()
+			? CompletableFuture.failedFuture(new LLMCircuitOpenException(providerName))
+			: rateLimiters.get(providerType).submit(estimatedTokens, () -> breaker.execute(() ->
+				provider.stream(model, question, MAX_TOKENS, onDelta)));
+
+		streaming.whenComplete((ignored, e) -> {
+			if (e != null) {
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				observation.error(cause);
+				observation.stop();
+				log.error("Streaming answer from {} failed: {}", model, cause.getMessage());
+				send(emitter, closed, "error", cause.getMessage());
+			} else {
+				observation.stop();
+				String text;
+				synchronized (answer) {
+					text = answer.toString();
+				}
+				responseCache.put(cacheKey, text);
+				transcriptStore.record(model, question, text, (System.nanoTime() - startedAt) / 1_000_000);
+			}
+			complete(emitter, closed);
+		});
+		return emitter;
+	}
+
+	// 부분 응답을 클라이언트로 전달, 클라이언트가 끊겼으면 예외로 수신 중단
+	private void onDelta(String delta, SseEmitter emitter, AtomicBoolean closed) {
+		if (!send(emitter, closed, "token", delta)) {
+			throw new IllegalStateException("Client disconnected");
+		}
+	}
+
+	private boolean send(SseEmitter emitter, AtomicBoolean closed, String event, String data) {
+		if (closed.get()) {
+			return false;
+		}
+		try {
+			emitter.send(SseEmitter.event().name(event).data(data));
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			closed.set(true);
+			return false;
+		}
+	}
+
+	private void complete(SseEmitter emitter, AtomicBoolean closed) {
+		if (send(emitter, closed, "done", "")) {
+			emitter.complete();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.elsa.domain.qna.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.client.LLMRateLimiters;
+import com.example.elsa.domain.qna.entity.LLMTranscript;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.repository.LLMTranscriptRepository;
+import com.example.elsa.global.common.DbBatchObserver;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제공자 호출 기록(트랜스크립트) 저장소입니다.
+ * <p>
+ * 기록 모드에서는 모든 성공한 제공자 호출의 프롬프트, 가공 전 응답, 지연 시간, 추정 토큰 수를 스냅샷 이름과 함께 모아 두었다가
+ * 일정 개수 또는 일정 주기마다 한 번에 저장합니다.
+ * 재생 모드에서는 제공자를 호출하지 않고 선택한 스냅샷의 기록으로 응답하므로, 응답 파서나 채점 규칙을 바꾼 채점을
+ * 네트워크와 비용 없이 같은 입력으로 반복할 수 있습니다. 기록이 없는 프롬프트는 실패로 처리합니다.
+ */
+@Slf4j
+@Component
+public class LLMTranscriptStore {
+
+	private final LLMTranscriptRepository transcriptRepository;
+	private final DbBatchObserver dbBatchObserver;
+	private final Executor ingestExecutor;
+	private final boolean recording;
+	private final String snapshot;
+	private final boolean replaying;
+	private final String replaySnapshot;
+	private final int batchSize;
+
+	private final ConcurrentLinkedQueue<LLMTranscript> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	// 스냅샷 → (모델:프롬프트 해시 → 응답), 같은 프롬프트가 여러 번 기록되었으면 마지막 응답
+	private final Map<String, Map<String, String>> replayIndex = new ConcurrentHashMap<>();
+
+	public LLMTranscriptStore(LLMTranscriptRepository transcriptRepository,
+		DbBatchObserver dbBatchObserver,
+		@Qualifier("llmScheduler") ThreadPoolTaskScheduler llmScheduler,
+		@Qualifier("ingestExecutor") Executor ingestExecutor,
+		@Value("${llm.transcript.enabled:true}") boolean recording,
+		@Value("${llm.transcript.snapshot:default}") String snapshot,
+		@Value("${llm.transcript.replay.enabled:false}") boolean replaying,
+		@Value("${llm.transcript.replay.snapshot:default}") String replaySnapshot,
+		@Value("${llm.transcript.batch-size:100}") int batchSize,
+		@Value("${llm.transcript.flush-interval:2s}") Duration flushInterval) {
+		this.transcriptRepository = transcriptRepository;
+		this.dbBatchObserver = dbBatchObserver;
+		this.ingestExecutor = ingestExecutor;
+		this.recording = recording && !replaying;
+		this.snapshot = snapshot;
+		this.replaying = replaying;
+		this.replaySnapshot = replaySnapshot;
+		this.batchSize = batchSize;
+		if (this.recording) {
+			llmScheduler.scheduleWithFixedDelay(() -> ingestExecutor.execute(this::flush), flushInterval);
+		}
+		if (replaying) {
+			log.info("LLM transcript replay mode: serving answers from snapshot '{}'", replaySnapshot);
+		}
+	}
+
+	public boolean isReplaying() {
+		return replaying;
+	}
+
+	public void record(LLMModel model, String prompt, String response, long latencyMs) {
+		if (!recording || response == null) {
+			return;
+		}
+		pending.add(new LLMTranscript(snapshot, model, LLMResponseCache.sha256(prompt), prompt, response, latencyMs,
+			LLMRateLimiters.estimateTokens(prompt), LLMRateLimiters.estimateTokens(response)));
+		if (pendingCount.incrementAndGet() >= batchSize) {
+			ingestExecutor.execute(this::flush);
+		}
+	}
+
+	/**
+	 * 재생 스냅샷에서 같은 모델/프롬프트의 기록된 응답을 반환합니다. 스냅샷은 처음 사용할 때 한 번만 읽습니다.
+	 */
+	public CompletableFuture<String> replay(LLMModel model, String prompt) {
+		Map<String, String> index = replayIndex.computeIfAbsent(replaySnapshot, this::loadSnapshot);
+		String response = index.get(key(model, LLMResponseCache.sha256(prompt)));
+		if (response == null) {
+			return CompletableFuture.failedFuture(new IllegalStateException(
+				"No transcript for " + model + " in snapshot '" + replaySnapshot + "'"));
+		}
+		return CompletableFuture.completedFuture(response);
+	}
+
+	/**
+	 * @return 스냅샷별 기록 수와 기록 기간
+	 */
+	public List<Map<String, Object>> getSnapshots() {
+		List<Map<String, Object>> snapshots = new ArrayList<>();
+		for (Object[] row : transcriptRepository.summarizeSnapshots()) {
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("snapshot", row[0]);
+			summary.put("count", row[1]);
+			summary.put("from", row[2]);
+			summary.put("to", row[3]);
+			snapshots.add(summary);
+		}
+		return snapshots;
+	}
+
+	@PreDestroy
+	public void flush() {
+		List<LLMTranscript> batch = new ArrayList<>();
+		LLMTranscript transcript;
+		while ((transcript = pending.poll()) != null) {
+			batch.add(transcript);
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		pendingCount.addAndGet(-batch.size());
+		try {
+			dbBatchObserver.observe("transcripts", batch.size(), () -> transcriptRepository.saveAll(batch));
+		} catch (RuntimeException e) {
+			log.error("Failed to save {} LLM transcripts", batch.size(), e);
+		}
+	}
+
+	private Map<String, String> loadSnapshot(String snapshotName) {
+		Map<String, String> index = new HashMap<>();
+		for (LLMTranscript transcript : transcriptRepository.findBySnapshotOrderByIdAsc(snapshotName)) {
+			index.put(key(transcript.getModel(), transcript.getPromptHash()), transcript.getResponse());
+		}
+		log.info("Loaded {} transcripts from snapshot '{}'", index.size(), snapshotName);
+		return index;
+	}
+
+	private String key(LLMModel model, String promptHash) {
+		return model.name() + ":" + promptHash;
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.elsa.domain.qna.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.elsa.domain.qna.entity.LeaderboardEntry;
+import com.example.elsa.domain.qna.entity.ModelScore;
+import com.example.elsa.domain.qna.entity.Standard;
+import com.example.elsa.domain.qna.enums.LLMModel;
+import com.example.elsa.domain.qna.repository.LeaderboardEntryRepository;
+import com.example.elsa.domain.qna.repository.ModelScoreRepository;
+import com.example.elsa.domain.qna.repository.StandardRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모델 점수의 저장과 리더보드 조회를 담당합니다.
+ * <p>
+ * ModelScore와 리더보드 행은 (standard_id, model), (model, standard_name) 유니크 제약을 이용한 upsert 한 문장씩으로 함께 갱신되고,
+ * 전체 점수 조회는 리더보드 테이블을 한 번 읽어 만듭니다. 기동 후에 추가된 스탠다드처럼 리더보드 행이 없는 스탠다드는
+ * 0점으로 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+	// 리더보드에 표시할 스탠다드와 순서
+	private static final List<String> ORDERED_STANDARDS = List.of(
+		"인권보장",
+		"프라이버시 보호",
+		"다양성 존중",
+		"침해 금지",
+		"공공성",
+		"연대성",
+		"데이터 관리"
+	);
+
+	private final ModelScoreRepository modelScoreRepository;
+	private final LeaderboardEntryRepository leaderboardEntryRepository;
+	private final StandardRepository standardRepository;
+
+	@Transactional
+	public void saveScore(Standard standard, LLMModel model, double score) {
+		upsert(standard, model, score);
+	}
+
+	/**
+	 * 여러 모델의 점수를 한 트랜잭션으로 저장합니다.
+	 *
+	 * @param scores 모델 → 스탠다드 → 점수
+	 */
+	@Transactional
+	public void saveScores(Map<LLMModel, Map<Standard, Double>> scores) {
+		scores.forEach((model, standardScores) ->
+			standardScores.forEach((standard, score) -> upsert(standard, model, score)));
+	}
+
+	/**
+	 * @return 모델 → 스탠다드 이름(표시 순서) → {score}
+	 */
+	public Map<LLMModel, Map<String, Object>> getLeaderboard() {
+		Set<String> standardNames = new HashSet<>(standardRepository.findNamesByNameIn(ORDERED_STANDARDS));
+		Map<String, Double> scores = new HashMap<>();
+		for (LeaderboardEntry entry : leaderboardEntryRepository.findAllByOrderByModelAscDisplayOrderAsc()) {
+			scores.put(key(entry.getStandardName(), entry.getModel()), entry.getScore());
+		}
+
+		Map<LLMModel, Map<String, Object>> leaderboard = new EnumMap<>(LLMModel.class);
+		for (LLMModel model : LLMModel.values()) {
+			Map<String, Object> modelScores = new LinkedHashMap<>();
+			for (String standardName : ORDERED_STANDARDS) {
+				if (standardNames.contains(standardName)) {
+					modelScores.put(standardName,
+						Map.of("score", scores.getOrDefault(key(standardName, model), 0.0)));
+				}
+			}
+			leaderboard.put(model, modelScores);
+		}
+		return leaderboard;
+	}
+
+	/**
+	 * 기동 시 스탠다드와 저장된 ModelScore로 리더보드를 다시 만듭니다.
+	 * 아직 채점하지 않은 모델/스탠다드는 0점 행으로 채워 조회 결과가 항상 같은 모양이 되게 합니다.
+	 * <p>
+	 * 유니크 제약이 없던 때 쌓인 중복 ModelScore는 가장 최근 행만 남기고 지운 뒤 유니크 인덱스를 만들어,
+	 * upsert의 ON CONFLICT가 기존 DB에서도 동작하게 합니다.
+	 */
+	@Transactional
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		int duplicates = modelScoreRepository.deleteDuplicates();
+		if (duplicates > 0) {
+			log.warn("Deleted {} duplicate model scores", duplicates);
+		}
+		modelScoreRepository.createUniqueIndex();
+
+		Set<String> standardNames = standardRepository.findAllValidStandards().stream()
+			.map(Standard::getName)
+			.collect(Collectors.toSet());
+		Map<String, ModelScore> modelScores = modelScoreRepository.findAll().stream()
+			.filter(modelScore -> modelScore.getStandard() != null)
+			.collect(Collectors.toMap(modelScore -> key(modelScore.getStandard().getName(), modelScore.getModel()),
+				Function.identity(), (a, b) -> a));
+
+		List<LeaderboardEntry> entries = new ArrayList<>();
+		for (LLMModel model : LLMModel.values()) {
+			for (int order = 0; order < ORDERED_STANDARDS.size(); order++) {
+				String standardName = ORDERED_STANDARDS.get(order);
+				if (standardNames.contains(standardName)) {
+					ModelScore modelScore = modelScores.get(key(standardName, model));
+					entries.add(new LeaderboardEntry(model, standardName, order,
+						modelScore != null ? modelScore.getScore() : 0.0));
+				}
+			}
+		}
+		leaderboardEntryRepository.deleteAllInBatch();
+		leaderboardEntryRepository.saveAll(entries);
+		log.info("Rebuilt leaderboard with {} entries", entries.size());
+	}
+
+	private void upsert(Standard standard, LLMModel model, double score) {
+		modelScoreRepository.upsert(standard.getId(), model.name(), score);
+		int order = ORDERED_STANDARDS.indexOf(standard.getName());
+		if (order >= 0) {
+			leaderboardEntryRepository.upsert(model.name(), standard.getName(), order, score);
+		}
+	}
+
+	private String key(String standardName, LLMModel model) {
+		return standardName + ":" + model;
+	}
+}
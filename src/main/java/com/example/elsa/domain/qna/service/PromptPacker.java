@@ -0,0 +1,193 @@
+package com.example.elsa.domain.qna.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.elsa.domain.qna.client.LLMRateLimiters;
+import com.example.elsa.domain.qna.dto.PromptPack;
+import com.example.elsa.domain.qna.entity.QnaSet;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 스탠다드의 여러 QnaSet을 토큰 예산 안에서 하나의 요청으로 묶고, 응답을 다시 QnaSet별로 나눕니다.
+ * <p>
+ * 각 QnaSet의 번호 항목("1. ...")은 묶음 전체에서 이어지는 번호로 다시 매기고, 번호가 없는 줄은 문맥으로 그대로 둡니다.
+ * 응답은 먼저 항목 번호로 나누고, 번호가 빠져 있으면(예: Gemini의 Yes/No 정리 응답) Yes/No 줄의 순서로 나눕니다.
+ */
+@Slf4j
+@Component
+public class PromptPacker {
+
+	private static final Pattern ITEM = Pattern.compile("^\\s*(\\d+)[.)]\\s*(.*)$");
+	// "3. Yes", "Q3: No", "Yes" 형식의 응답 줄
+	private static final Pattern ANSWER =
+		Pattern.compile("^\\s*(?:Q?(\\d+)\\s*[.):\\-]?\\s*)?\\**(yes|no)\\b.*$", Pattern.CASE_INSENSITIVE);
+	static final String INSTRUCTION =
+		"Answer every numbered item below with only 'Yes' or 'No', one item per line, in the form '<number>. Yes' or '<number>. No'.\n";
+
+	private final boolean enabled;
+	private final int maxPromptTokens;
+	private final int maxItems;
+
+	public PromptPacker(@Value("${llm.packing.enabled:true}") boolean enabled,
+		@Value("${llm.packing.max-prompt-tokens:2000}") int maxPromptTokens,
+		@Value("${llm.packing.max-items:40}") int maxItems) {
+		this.enabled = enabled;
+		this.maxPromptTokens = maxPromptTokens;
+		this.maxItems = maxItems;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	// 번호 항목이 하나라도 있는 QnaSet만 묶을 수 있음
+	public boolean isPackable(QnaSet qnaSet) {
+		return countItems(qnaSet.getQuestion()) > 0;
+	}
+
+	/**
+	 * @param header 모든 묶음의 지시문 앞에 붙일 문맥 (없으면 빈 문자열)
+	 */
+	public List<PromptPack> pack(List<QnaSet> qnaSets, String header) {
+		List<PromptPack> packs = new ArrayList<>();
+		List<QnaSet> current = new ArrayList<>();
+		List<Integer> counts = new ArrayList<>();
+		int currentTokens = 0;
+		int currentItems = 0;
+
+		for (QnaSet qnaSet : qnaSets) {
+			int items = countItems(qnaSet.getQuestion());
+			int tokens = LLMRateLimiters.estimateTokens(qnaSet.getQuestion());
+			boolean full = currentTokens + tokens > maxPromptTokens || currentItems + items > maxItems;
+			if (!current.isEmpty() && full) {
+				packs.add(build(current, counts, header));
+				current = new ArrayList<>();
+				counts = new ArrayList<>();
+				currentTokens = 0;
+				currentItems = 0;
+			}
+			current.add(qnaSet);
+			counts.add(items);
+			currentTokens += tokens;
+			currentItems += items;
+		}
+		if (!current.isEmpty()) {
+			packs.add(build(current, counts, header));
+		}
+
+		log.info("Packed {} QnaSets into {} requests", qnaSets.size(), packs.size());
+		return packs;
+	}
+
+	/**
+	 * 묶음 응답을 QnaSet별 Yes/No 목록으로 나눕니다. 항목 수를 맞출 수 없으면 empty.
+	 * <p>
+	 * 번호가 붙은 답이 하나라도 있으면 번호로만 나누고, 번호가 없는 응답만 줄 순서로 나눕니다.
+	 */
+	public Optional<List<String[]>> demux(PromptPack pack, String answer) {
+		int total = pack.getTotalItems();
+		String[] ordered = (hasNumberedAnswer(answer) ? byNumber(answer, total) : byPosition(answer, total))
+			.orElse(null);
+		if (ordered == null) {
+			log.warn("Could not demultiplex packed answer for {} items: {}", total, answer);
+			return Optional.empty();
+		}
+
+		List<String[]> result = new ArrayList<>();
+		int offset = 0;
+		for (int count : pack.getItemCounts()) {
+			String[] answers = new String[count];
+			System.arraycopy(ordered, offset, answers, 0, count);
+			result.add(answers);
+			offset += count;
+		}
+		return Optional.of(result);
+	}
+
+	private PromptPack build(List<QnaSet> qnaSets, List<Integer> counts, String header) {
+		StringBuilder prompt = new StringBuilder(header).append(INSTRUCTION);
+		int number = 1;
+		for (QnaSet qnaSet : qnaSets) {
+			prompt.append('\n');
+			for (String line : qnaSet.getQuestion().split("\n")) {
+				Matcher matcher = ITEM.matcher(line);
+				if (matcher.matches()) {
+					prompt.append(number++).append(". ").append(matcher.group(2).trim()).append('\n');
+				} else if (!line.isBlank()) {
+					prompt.append(line.trim()).append('\n');
+				}
+			}
+		}
+		return new PromptPack(prompt.toString().trim(), List.copyOf(qnaSets),
+			counts.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	private int countItems(String question) {
+		if (question == null) {
+			return 0;
+		}
+		int count = 0;
+		for (String line : question.split("\n")) {
+			if (ITEM.matcher(line).matches()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private boolean hasNumberedAnswer(String answer) {
+		for (String line : answer.split("\n")) {
+			Matcher matcher = ANSWER.matcher(line);
+			if (matcher.matches() && matcher.group(1) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Optional<String[]> byNumber(String answer, int total) {
+		Map<Integer, String> answers = new HashMap<>();
+		for (String line : answer.split("\n")) {
+			Matcher matcher = ANSWER.matcher(line);
+			if (matcher.matches() && matcher.group(1) != null) {
+				int number = Integer.parseInt(matcher.group(1));
+				if (number >= 1 && number <= total) {
+					answers.putIfAbsent(number, normalize(matcher.group(2)));
+				}
+			}
+		}
+		if (answers.size() != total) {
+			return Optional.empty();
+		}
+		String[] ordered = new String[total];
+		for (int i = 0; i < total; i++) {
+			ordered[i] = answers.get(i + 1);
+		}
+		return Optional.of(ordered);
+	}
+
+	private Optional<String[]> byPosition(String answer, int total) {
+		List<String> answers = new ArrayList<>();
+		for (String line : answer.split("\n")) {
+			Matcher matcher = ANSWER.matcher(line);
+			if (matcher.matches()) {
+				answers.add(normalize(matcher.group(2)));
+			}
+		}
+		return answers.size() == total ? Optional.of(answers.toArray(new String[0])) : Optional.empty();
+	}
+
+	private String normalize(String yesNo) {
+		return "yes".equalsIgnoreCase(yesNo) ? "Yes" : "No";
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.elsa.domain.qna.service;
+
+import com.example.elsa.domain.qna.entity.QnaSet;
+import com.example.elsa.domain.qna.entity.Standard;
+
+/**
+ * 채점 진행 상황을 기록하고 복원합니다.
+ * 이미 채점을 마친 QnaSet은 다시 요청하지 않고, 기록해 둔 문항 수/정답 수를 스탠다드 집계에 더합니다.
+ */
+public interface ScoringCheckpoint {
+
+	ScoringCheckpoint NONE = new ScoringCheckpoint() {
+	};
+
+	default boolean isDone(QnaSet qnaSet) {
+		return false;
+	}
+
+	/**
+	 * @return 이전 실행에서 채점을 마친 QnaSet들의 {문항 수, 정답 수}
+	 */
+	default int[] restored(Standard standard) {
+		return new int[] {0, 0};
+	}
+
+	/**
+	 * 채점에 성공한 QnaSet마다 호출됩니다. 실패하거나 채점에서 제외된 QnaSet은 기록되지 않으므로 재개할 때 다시 채점합니다.
+	 */
+	default void record(Standard standard, QnaSet qnaSet, int[] result) {
+	}
+}
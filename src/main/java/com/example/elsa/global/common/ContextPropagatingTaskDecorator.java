@@ -0,0 +1,85 @@
+package com.example.elsa.global.common;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 작업을 제출한 스레드의 MDC와 현재 Observation을 실행 스레드로 옮깁니다.
+ * <p>
+ * 비동기 작업의 로그에도 요청 ID가 남고, 작업 안에서 시작한 Observation(제공자 호출, 감성 분석, DB 배치)은
+ * 제출한 요청의 Observation을 부모로 갖습니다. 작업이 끝나면 실행 스레드의 원래 상태로 되돌립니다.
+ * <p>
+ * 대기열이나 재시도 예약처럼 제출한 스레드가 아닌 스레드(HTTP 클라이언트, 스케줄러, 다른 요청의 완료 스레드)에서
+ * 이어 실행되는 작업은 {@link #capture()}로 시작 시점의 상태를 저장해 두고 실행할 때 적용합니다.
+ */
+@Component
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+	private final ObservationRegistry observationRegistry;
+
+	public ContextPropagatingTaskDecorator(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		return capture().wrap(runnable);
+	}
+
+	/**
+	 * 현재 스레드의 MDC와 Observation을 저장합니다.
+	 */
+	public Snapshot capture() {
+		return new Snapshot(MDC.getCopyOfContextMap(), observationRegistry.getCurrentObservation());
+	}
+
+	/**
+	 * 저장한 MDC와 Observation. 실행하는 동안에만 적용하고 끝나면 실행 스레드의 원래 상태로 되돌립니다.
+	 */
+	public static final class Snapshot {
+
+		private final Map<String, String> context;
+		private final Observation observation;
+
+		private Snapshot(Map<String, String> context, Observation observation) {
+			this.context = context;
+			this.observation = observation;
+		}
+
+		public Runnable wrap(Runnable runnable) {
+			return () -> call(() -> {
+				runnable.run();
+				return null;
+			});
+		}
+
+		public <T> T call(Supplier<T> supplier) {
+			Map<String, String> previous = MDC.getCopyOfContextMap();
+			setContextMap(context);
+			Observation.Scope scope = observation != null ? observation.openScope() : null;
+			try {
+				return supplier.get();
+			} finally {
+				if (scope != null) {
+					scope.close();
+				}
+				setContextMap(previous);
+			}
+		}
+
+		private static void setContextMap(Map<String, String> context) {
+			if (context != null) {
+				MDC.setContextMap(context);
+			} else {
+				MDC.clear();
+			}
+		}
+	}
+}
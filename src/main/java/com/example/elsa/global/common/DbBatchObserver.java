@@ -0,0 +1,37 @@
+package com.example.elsa.global.common;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 여러 행을 한 번에 쓰는 DB 작업을 db.batch Observation으로 기록합니다.
+ * batch 태그로 작업 종류를 구분하고, 행 수는 high cardinality 값으로 남깁니다.
+ */
+@Component
+public class DbBatchObserver {
+
+	private final ObservationRegistry observationRegistry;
+
+	public DbBatchObserver(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	public <T> T observe(String batch, int rows, Supplier<T> work) {
+		return observation(batch, rows).observe(work);
+	}
+
+	public void observe(String batch, int rows, Runnable work) {
+		observation(batch, rows).observe(work);
+	}
+
+	private Observation observation(String batch, int rows) {
+		return Observation.createNotStarted("db.batch", observationRegistry)
+			.contextualName("db " + batch)
+			.lowCardinalityKeyValue("batch", batch)
+			.highCardinalityKeyValue("rows", String.valueOf(rows));
+	}
+}
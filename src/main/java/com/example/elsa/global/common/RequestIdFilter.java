@@ -0,0 +1,53 @@
+package com.example.elsa.global.common;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 요청 ID를 정해 MDC(requestId)와 응답 헤더에 넣습니다.
+ * 클라이언트가 X-Request-Id 헤더를 보내면 그 값을 사용합니다.
+ * 비동기 실행기로 넘어간 작업에는 {@link ContextPropagatingTaskDecorator}가 같은 값을 전달합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Request-Id";
+	public static final String MDC_KEY = "requestId";
+
+	// 로그 주입을 막기 위해 헤더 값은 영문, 숫자, '-', '_'로 된 64자 이하만 허용
+	private static final int MAX_LENGTH = 64;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		String requestId = request.getHeader(HEADER);
+		if (!isValid(requestId)) {
+			requestId = UUID.randomUUID().toString();
+		}
+		MDC.put(MDC_KEY, requestId);
+		response.setHeader(HEADER, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+
+	private boolean isValid(String requestId) {
+		return StringUtils.hasText(requestId) && requestId.length() <= MAX_LENGTH
+			&& requestId.chars().allMatch(c -> Character.isLetterOrDigit(c) && c < 128 || c == '-' || c == '_');
+	}
+}
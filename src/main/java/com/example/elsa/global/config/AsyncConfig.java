@@ -1,28 +1,190 @@
 package com.example.elsa.global.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
-import java.util.concurrent.Executor;
+import com.example.elsa.global.common.ContextPropagatingTaskDecorator;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 종류별로 분리한 실행기(벌크헤드)입니다. 한 종류의 작업이 몰려도 다른 종류의 스레드와 큐를 차지하지 않습니다.
+ * <ul>
+ *     <li>llmExecutor: 평가 작업 실행과 제공자 호출 흐름 (I/O 대기가 대부분)</li>
+ *     <li>analysisExecutor: 감성 분석 (CPU 바운드, 코어 수 기준)</li>
+ *     <li>ingestExecutor: Q&A 추가, 일괄 답변 가져오기, 트랜스크립트 저장 등 DB 쓰기</li>
+ * </ul>
+ * 큐가 가득 차면 작업을 버리지 않고 제출한 스레드에서 실행하여 제출 속도를 늦춥니다.
+ * 실행기마다 executor.* 지표(활성 스레드, 큐 길이, 완료 수), executor.rejected(큐 초과 횟수),
+ * executor.task.latency(제출부터 완료까지의 시간)를 name 태그로 구분해 기록합니다.
+ * <p>
+ * executor.mode=virtual이면 스레드 풀 대신 작업마다 가상 스레드를 만들고(Java 21 필요), 실행기마다 하위 시스템(제공자, 감성 분석 워커, DB)에
+ * 맞춘 세마포어(executor.*.permits)로 동시 실행 수를 제한합니다. 허가를 기다리는 동안에는 가상 스레드만 멈추므로 제출한 스레드는 막히지 않습니다.
+ * <p>
+ * 모든 실행기와 llmScheduler는 제출한 스레드의 MDC(요청 ID)와 현재 Observation을 작업에 전달합니다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    // platform: 스레드 풀, virtual: 가상 스레드 + 세마포어
+    @Value("${executor.mode:platform}")
+    private String mode;
+
+    private final MeterRegistry meterRegistry;
+    private final ContextPropagatingTaskDecorator contextPropagation;
+
+    public AsyncConfig(MeterRegistry meterRegistry, ContextPropagatingTaskDecorator contextPropagation) {
+        this.meterRegistry = meterRegistry;
+        this.contextPropagation = contextPropagation;
+    }
+
+    @Bean(name = "llmExecutor")
+    public AsyncTaskExecutor llmExecutor(@Value("${executor.llm.core-size:0}") int coreSize,
+                                         @Value("${executor.llm.max-size:0}") int maxSize,
+                                         @Value("${executor.llm.queue-capacity:500}") int queueCapacity,
+                                         @Value("${executor.llm.permits:256}") int permits) {
+        // 0이면 I/O 바운드 작업을 가정한 기본값, 제공자별 동시 요청 수는 요청 제어기가 따로 제한
+        return executor("llm", "LLM-", orDefault(coreSize, CORES), orDefault(maxSize, CORES * 2), queueCapacity,
+                permits);
+    }
+
+    @Bean(name = "analysisExecutor")
+    public AsyncTaskExecutor analysisExecutor(@Value("${executor.analysis.core-size:0}") int coreSize,
+                                              @Value("${executor.analysis.max-size:0}") int maxSize,
+                                              @Value("${executor.analysis.queue-capacity:1000}") int queueCapacity,
+                                              @Value("${executor.analysis.permits:0}") int permits) {
+        // 0이면 코어 수, 감성 분석 워커 수와 같게 두어 워커를 기다리는 스레드가 늘지 않게 함
+        return executor("analysis", "Analysis-", orDefault(coreSize, CORES), orDefault(maxSize, CORES), queueCapacity,
+                orDefault(permits, CORES));
+    }
+
+    @Bean(name = "ingestExecutor")
+    public AsyncTaskExecutor ingestExecutor(@Value("${executor.ingest.core-size:2}") int coreSize,
+                                            @Value("${executor.ingest.max-size:4}") int maxSize,
+                                            @Value("${executor.ingest.queue-capacity:200}") int queueCapacity,
+                                            @Value("${executor.ingest.permits:4}") int permits) {
+        // 가상 스레드에서도 DB 커넥션 풀(기본 10개)을 모두 차지하지 않도록 제한
+        return executor("ingest", "Ingest-", coreSize, maxSize, queueCapacity, permits);
+    }
 
-        int numberOfCores = Runtime.getRuntime().availableProcessors();
-        int maxPoolSize = numberOfCores * 2; // I/O 바운드 작업을 가정한 설정
+    // LLM 호출의 지연 실행(요청 한도 대기, 재시도 대기)용 스케줄러. 대기 중에는 스레드를 점유하지 않음
+    // 사용하는 쪽이 getScheduledExecutor()로 직접 예약하므로 실행기 자체에서 예약한 작업에 컨텍스트를 전달
+    // (ThreadPoolTaskScheduler.setTaskDecorator는 Spring 6.2부터 제공)
+    @Bean(name = "llmScheduler")
+    public ThreadPoolTaskScheduler llmScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler() {
+            @Override
+            protected ScheduledExecutorService createExecutor(int poolSize, ThreadFactory threadFactory,
+                                                              RejectedExecutionHandler rejectedExecutionHandler) {
+                return new ScheduledThreadPoolExecutor(poolSize, threadFactory, rejectedExecutionHandler) {
+                    // execute(), submit()도 이 메서드로 예약됨
+                    @Override
+                    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                        return super.schedule(contextPropagation.decorate(command), delay, unit);
+                    }
+                };
+            }
+        };
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("LLM-Scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    private AsyncTaskExecutor executor(String name, String threadNamePrefix, int coreSize, int maxSize,
+                                       int queueCapacity, int permits) {
+        Timer latency = Timer.builder("executor.task.latency")
+                .description("작업 제출부터 완료까지의 시간 (큐 대기 포함)")
+                .tag("name", name)
+                .register(meterRegistry);
+        if ("virtual".equalsIgnoreCase(mode)) {
+            return virtualExecutor(name, threadNamePrefix, permits, latency);
+        }
+
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("큐가 가득 차 제출한 스레드에서 실행된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
 
-        executor.setCorePoolSize(numberOfCores);
-        executor.setMaxPoolSize(maxPoolSize);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("Async-");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            callerRuns.rejectedExecution(task, pool);
+        });
+        executor.setTaskDecorator(timed(latency, null));
         executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    // 작업마다 가상 스레드를 만들고, 세마포어 허가를 얻은 작업만 실행. 지표 이름은 스레드 풀 모드와 같게 유지
+    private AsyncTaskExecutor virtualExecutor(String name, String threadNamePrefix, int permits, Timer latency) {
+        Semaphore semaphore = new Semaphore(permits, true);
+        Gauge.builder("executor.active", semaphore, s -> permits - s.availablePermits())
+                .description("허가를 얻어 실행 중인 작업 수")
+                .tags("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", semaphore, Semaphore::getQueueLength)
+                .description("허가를 기다리는 작업 수")
+                .tags("name", name)
+                .register(meterRegistry);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(timed(latency, semaphore));
         return executor;
     }
+
+    // 제출 시각부터 완료까지 기록, 세마포어가 있으면 실행 전에 허가를 얻고 끝나면 반납
+    private TaskDecorator timed(Timer latency, Semaphore semaphore) {
+        return submitted -> {
+            Runnable task = contextPropagation.decorate(submitted);
+            long submittedAt = System.nanoTime();
+            return () -> {
+                if (semaphore != null) {
+                    semaphore.acquireUninterruptibly();
+                }
+                try {
+                    task.run();
+                } finally {
+                    if (semaphore != null) {
+                        semaphore.release();
+                    }
+                    latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private int orDefault(int value, int defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
 }
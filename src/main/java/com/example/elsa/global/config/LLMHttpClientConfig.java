@@ -0,0 +1,51 @@
+package com.example.elsa.global.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.elsa.domain.qna.client.LLMHttpClient;
+
+@Configuration
+public class LLMHttpClientConfig {
+
+	@Value("${openai.api.key}")
+	private String openaiApiKey;
+
+	@Value("${llm.openai.connect-timeout:5s}")
+	private Duration openaiConnectTimeout;
+
+	@Value("${llm.openai.request-timeout:60s}")
+	private Duration openaiRequestTimeout;
+
+	@Value("${llm.gemini.connect-timeout:5s}")
+	private Duration geminiConnectTimeout;
+
+	@Value("${llm.gemini.request-timeout:60s}")
+	private Duration geminiRequestTimeout;
+
+	@Bean
+	public LLMHttpClient openaiHttpClient() {
+		return new LLMHttpClient("openai", httpClient(openaiConnectTimeout), openaiRequestTimeout,
+			Map.of("Authorization", "Bearer " + openaiApiKey));
+	}
+
+	@Bean
+	public LLMHttpClient geminiHttpClient() {
+		// Gemini API는 URL 쿼리 파라미터로 API 키를 전달하므로 별도의 헤더가 필요 없습니다.
+		return new LLMHttpClient("gemini", httpClient(geminiConnectTimeout), geminiRequestTimeout, Map.of());
+	}
+
+	// 제공자별로 하나의 클라이언트를 공유해야 커넥션 풀(HTTP/1.1 keep-alive, HTTP/2 멀티플렉싱)이 재사용됩니다.
+	private HttpClient httpClient(Duration connectTimeout) {
+		return HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(connectTimeout)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.build();
+	}
+}
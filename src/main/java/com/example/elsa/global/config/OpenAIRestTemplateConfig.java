@@ -1,36 +0,0 @@
-package com.example.elsa.global.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class OpenAIRestTemplateConfig {
-
-    @Value("${openai.api.key}")
-    private String openaiApiKey;
-
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
-
-    @Bean
-    public RestTemplate openaiRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getInterceptors().add((request, body, execution) -> {
-            request.getHeaders().add("Authorization", "Bearer " + openaiApiKey);
-            return execution.execute(request, body);
-        });
-        return restTemplate;
-    }
-    @Bean
-    public RestTemplate geminiRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getInterceptors().add((request, body, execution) -> {
-            // Gemini API는 URL 쿼리 파라미터로 API 키를 전달하므로 여기서는 별도의 헤더 설정이 필요 없습니다.
-            // API 키는 AnswerService에서 URL에 직접 추가됩니다.
-            return execution.execute(request, body);
-        });
-        return restTemplate;
-    }
-}
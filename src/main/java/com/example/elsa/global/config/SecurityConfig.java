@@ -43,6 +43,9 @@ public class SecurityConfig {
 			)
 			.authorizeHttpRequests(authorizeRequests -> authorizeRequests
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/ws/**").permitAll()
+				// health만 공개, metrics(캐시/실행기/LLM 사용량) 등 나머지 actuator는 관리자만
+				.requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+				.requestMatchers("/actuator/**").hasAuthority("ADMIN")
 				.requestMatchers("/api/member/**").authenticated()
 				.requestMatchers("/api/dataset/**", "/api/standard/admin/**",
 					"/api/diagnosis/admin/**", "/api/dataset/admin/**").hasAuthority("ADMIN")
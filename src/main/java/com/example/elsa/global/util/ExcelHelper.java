@@ -8,13 +8,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +30,60 @@ public class ExcelHelper {
 	 */
 
 	public static Map<String, List<String>> parseDataSetAndKewordFile(MultipartFile file) throws IOException {
+		// 구형 .xls 파일은 스트리밍으로 읽을 수 없으므로 기존 방식으로 처리
+		try (InputStream is = FileMagic.prepareToCheckMagic(file.getInputStream())) {
+			if (FileMagic.valueOf(is) != FileMagic.OOXML) {
+				return parseLegacyDataSetAndKewordFile(is);
+			}
+		}
+
 		// 데이터 셋과 해당 키워드를 저장할 맵 생성
 		Map<String, List<String>> data = new HashMap<>();
 
-		try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
+		XlsxStreamReader.read(file, 0, new XlsxStreamReader.RowHandler() {
+			// 열 번호 → 데이터 셋 이름, 열 번호 → 키워드 리스트 (헤더 순서)
+			private final Map<Integer, String> datasets = new LinkedHashMap<>();
+			private final Map<Integer, List<String>> keywords = new LinkedHashMap<>();
+
+			@Override
+			public void startSheet(int sheetIndex, String sheetName) {
+				datasets.clear();
+				keywords.clear();
+			}
+
+			@Override
+			public void row(int rowNum, Map<Integer, XlsxStreamReader.Cell> cells) {
+				if (rowNum == 0) {
+					// 첫 번째 행(헤더 행)의 각 셀이 데이터 셋 목록
+					cells.forEach((column, headerCell) -> {
+						datasets.put(column, headerCell.getStringValue());
+						keywords.put(column, new ArrayList<>());
+					});
+					return;
+				}
+				// 헤더 행 이후의 행에서 문자열 셀만 키워드로 추가
+				keywords.forEach((column, list) -> {
+					XlsxStreamReader.Cell cell = cells.get(column);
+					if (cell != null && cell.getType() == XlsxStreamReader.CellType.STRING) {
+						list.add(cell.getStringValue());
+					}
+				});
+			}
+
+			@Override
+			public void endSheet() {
+				// 헤더 행이 없는 시트는 datasets가 비어 있으므로 건너뜀
+				datasets.forEach((column, dataset) -> data.put(dataset, keywords.get(column)));
+			}
+		});
+		return data;
+	}
+
+	private static Map<String, List<String>> parseLegacyDataSetAndKewordFile(InputStream is) throws IOException {
+		// 데이터 셋과 해당 키워드를 저장할 맵 생성
+		Map<String, List<String>> data = new HashMap<>();
+
+		try (Workbook workbook = WorkbookFactory.create(is)) {
 			for (Sheet sheet : workbook) {
 				// 시트의 첫 번째 행(헤더 행)을 가져옵니다.
 				Row headerRow = sheet.getRow(0);
@@ -64,95 +114,103 @@ public class ExcelHelper {
 		return data;
 	}
 
+	/**
+	 * 시트마다 첫 행 첫 셀은 스탠다드 이름, 두 번째 행은 질문, 세 번째 행은 답변입니다.
+	 *
+	 * @return 스탠다드 이름 → [질문, 답변, 질문, 답변, ...]
+	 */
 	public static Map<String, List<String>> parseQnaFile(MultipartFile file) throws IOException {
 		Map<String, List<String>> data = new HashMap<>();
 
-		try (InputStream is = file.getInputStream();
-			 Workbook workbook = new XSSFWorkbook(is)) {
+		XlsxStreamReader.read(file, 0, new XlsxStreamReader.RowHandler() {
+			private String standardName;
+			private Map<Integer, XlsxStreamReader.Cell> questionRow;
+			private Map<Integer, XlsxStreamReader.Cell> answerRow;
 
-			for (Sheet sheet : workbook) {
-				String standardName = sheet.getRow(0).getCell(0).getStringCellValue().trim();
-				List<String> qnaList = new ArrayList<>();
+			@Override
+			public void startSheet(int sheetIndex, String sheetName) {
+				standardName = null;
+				questionRow = null;
+				answerRow = null;
+			}
 
-				Row questionRow = sheet.getRow(1);
-				Row answerRow = sheet.getRow(2);
+			@Override
+			public void row(int rowNum, Map<Integer, XlsxStreamReader.Cell> cells) {
+				// 세 번째 행 이후의 행은 사용하지 않음
+				if (rowNum == 0) {
+					XlsxStreamReader.Cell nameCell = cells.get(0);
+					standardName = nameCell != null ? nameCell.getStringValue().trim() : null;
+				} else if (rowNum == 1) {
+					questionRow = cells;
+				} else if (rowNum == 2) {
+					answerRow = cells;
+				}
+			}
 
+			@Override
+			public void endSheet() {
+				if (standardName == null) {
+					throw new IllegalArgumentException("Missing standard name in the first cell of the sheet");
+				}
+				List<String> qnaList = new ArrayList<>();
 				if (questionRow != null && answerRow != null) {
-					for (int i = 0; i < questionRow.getLastCellNum(); i++) {
-						Cell questionCell = questionRow.getCell(i);
-						Cell answerCell = answerRow.getCell(i);
-
-						if (questionCell != null) {
-							String question = getCellValueAsString(questionCell);
-							String answer = (answerCell != null) ? getCellValueAsString(answerCell) : "";
-
-							qnaList.add(question);
-							qnaList.add(answer);
-						}
-					}
+					questionRow.forEach((column, questionCell) -> {
+						XlsxStreamReader.Cell answerCell = answerRow.get(column);
+						qnaList.add(questionCell.getValueAsString());
+						qnaList.add(answerCell != null ? answerCell.getValueAsString() : "");
+					});
 				}
-
 				data.put(standardName, qnaList);
 			}
-		}
+		});
 
 		return data;
 	}
 
+	/**
+	 * 첫 번째 시트의 첫 행은 스탠다드 이름, 그 아래 행들은 각 열의 질문입니다.
+	 *
+	 * @return 스탠다드 이름(열 순서) → 질문 리스트, 질문이 없는 스탠다드는 제외
+	 */
 	public static Map<String, List<String>> parseDiagnosisQnaFile(MultipartFile file) throws IOException {
 		Map<String, List<String>> data = new LinkedHashMap<>();
 
-		try (InputStream is = file.getInputStream();
-			 Workbook workbook = new XSSFWorkbook(is)) {
-
-			Sheet sheet = workbook.getSheetAt(0); // Assuming we're working with the first sheet
-
-			Row headerRow = sheet.getRow(0);
-			int columnCount = headerRow.getLastCellNum();
-
-			for (int i = 0; i < columnCount; i++) {
-				Cell headerCell = headerRow.getCell(i);
-				if (headerCell != null) {
-					String standardName = getCellValueAsString(headerCell);
-					List<String> questions = new ArrayList<>();
-
-					// Iterate through rows for this column
-					for (int rowNum = 1; rowNum <= sheet.getLastRowNum(); rowNum++) {
-						Row row = sheet.getRow(rowNum);
-						if (row != null) {
-							Cell cell = row.getCell(i);
-							if (cell != null) {
-								String question = getCellValueAsString(cell);
-								if (!question.isEmpty()) {
-									questions.add(question);
-								}
-							}
+		XlsxStreamReader.read(file, 1, new XlsxStreamReader.RowHandler() {
+			// 열 번호 → 스탠다드 이름, 열 번호 → 질문 리스트 (열 순서)
+			private final Map<Integer, String> standardNames = new LinkedHashMap<>();
+			private final Map<Integer, List<String>> questions = new LinkedHashMap<>();
+
+			@Override
+			public void row(int rowNum, Map<Integer, XlsxStreamReader.Cell> cells) {
+				if (rowNum == 0) {
+					cells.forEach((column, headerCell) -> {
+						standardNames.put(column, headerCell.getValueAsString());
+						questions.put(column, new ArrayList<>());
+					});
+					return;
+				}
+				questions.forEach((column, list) -> {
+					XlsxStreamReader.Cell cell = cells.get(column);
+					if (cell != null) {
+						String question = cell.getValueAsString();
+						if (!question.isEmpty()) {
+							list.add(question);
 						}
 					}
+				});
+			}
 
-					if (!questions.isEmpty()) {
-						data.put(standardName, questions);
+			@Override
+			public void endSheet() {
+				standardNames.forEach((column, standardName) -> {
+					List<String> list = questions.get(column);
+					if (!list.isEmpty()) {
+						data.put(standardName, list);
 					}
-				}
+				});
 			}
-		}
+		});
 
 		return data;
 	}
-
-	private static String getCellValueAsString(Cell cell) {
-		if (cell == null) {
-			return "";
-		}
-		switch (cell.getCellType()) {
-			case STRING:
-				return cell.getStringCellValue().trim();
-			case NUMERIC:
-				return String.valueOf(cell.getNumericCellValue()).trim();
-			case BOOLEAN:
-				return String.valueOf(cell.getBooleanCellValue()).trim();
-			default:
-				return "";
-		}
-	}
 }
@@ -1,51 +1,110 @@
 package com.example.elsa.global.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Service
 public class PythonExecutor {
 
-    @Async("taskExecutor")
+    private final SentimentWorkerPool sentimentWorkerPool;
+    private final VaderSentimentAnalyzer vaderSentimentAnalyzer;
+    private final ObservationRegistry observationRegistry;
+    // python: 상주 워커 풀, java: JVM 내 VADER 구현 (Python 런타임 불필요)
+    private final String engine;
+    // 분석 규칙이나 사전을 바꾸면 올려서 저장된 감성 분석 결과를 무효화
+    private final String version;
+
+    public PythonExecutor(SentimentWorkerPool sentimentWorkerPool, VaderSentimentAnalyzer vaderSentimentAnalyzer,
+                          ObservationRegistry observationRegistry,
+                          @Value("${sentiment.engine:python}") String engine,
+                          @Value("${sentiment.version:1}") String version) {
+        this.sentimentWorkerPool = sentimentWorkerPool;
+        this.vaderSentimentAnalyzer = vaderSentimentAnalyzer;
+        this.observationRegistry = observationRegistry;
+        this.engine = engine;
+        this.version = version;
+    }
+
+    // 감성 분석 캐시 키에 들어가는 분석기 식별자
+    public String getAnalyzerVersion() {
+        return engine.toLowerCase() + "-" + version;
+    }
+
+    // 요청마다 프로세스를 띄우지 않고 상주 워커 풀(python/sentiment_worker.py)에 분석을 맡김
+    // 로컬에서는 python.interpreter=venv/bin/python, python.worker.script=src/main/resources/python/sentiment_worker.py 로 실행
+    @Async("analysisExecutor")
     public CompletableFuture<Map<String, Object>> executeSentimentAnalysis(String answer) {
         if (answer == null) {
             // answer가 null인 경우, 빈 결과를 반환하고 메서드 종료
             return CompletableFuture.completedFuture(null);
         }
-        try {
-             //로컬: 가상 환경의 Python 인터프리터 경로 설정
-//            String pythonInterpreter = "venv/bin/python"; // macOS/Linux
-
-////            // Dockerfile에서 설정한 가상 환경의 Python 인터프리터 경로 설정
-            String pythonInterpreter = "/app/venv/bin/python"; // Docker 컨테이너 내부 경로
-
-            // 로컬경로
-//            String scriptPath = "src/main/resources/python/sentiment_analysis.py";
-            String scriptPath = "/app/python/sentiment_analysis.py"; // 도커 Python 스크립트의 경로
-            ProcessBuilder pb = new ProcessBuilder(pythonInterpreter, scriptPath, answer);
-            Process process = pb.start();
-
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            StringBuilder output = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line);
-            }
+        return CompletableFuture.completedFuture(observation("single", 1).observe(() -> analyze(answer)));
+    }
+
+    // 답변 여러 개를 워커 요청 한 번으로 분석, 결과는 입력 순서대로이며 null 답변과 분석하지 못한 답변은 null
+    @Async("analysisExecutor")
+    public CompletableFuture<List<Double>> executeSentimentAnalysisBatch(List<String> answers) {
+        List<String> texts = answers.stream().filter(answer -> answer != null).toList();
+        List<Double> scores = texts.isEmpty() ? List.of() : observation("batch", texts.size()).observe(() -> analyzeBatch(texts));
 
-            reader.close();
-            process.waitFor();
+        List<Double> result = new ArrayList<>(answers.size());
+        int next = 0;
+        for (String answer : answers) {
+            result.add(answer == null ? null : scores.get(next++));
+        }
+        return CompletableFuture.completedFuture(result);
+    }
 
-            String jsonOutput = output.toString();
-            Map<String, Object> result = new ObjectMapper().readValue(jsonOutput, Map.class);
-            return CompletableFuture.completedFuture(result);
+    private Map<String, Object> analyze(String answer) {
+        if ("java".equalsIgnoreCase(engine)) {
+            return vaderSentimentAnalyzer.analyze(answer);
+        }
+        try {
+            return sentimentWorkerPool.analyze(answer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a sentiment worker", e);
         } catch (Exception e) {
             throw new RuntimeException("Failed to execute sentiment analysis script", e);
         }
     }
+
+    // 워커가 실패하면 풀이 재시작한 워커로 한 번 더 시도
+    private List<Double> analyzeBatch(List<String> texts) {
+        if ("java".equalsIgnoreCase(engine)) {
+            return vaderSentimentAnalyzer.analyzeBatch(texts);
+        }
+        try {
+            try {
+                return sentimentWorkerPool.analyzeBatch(texts);
+            } catch (IOException e) {
+                log.warn("Sentiment batch of {} answers failed, retrying once: {}", texts.size(), e.getMessage());
+                return sentimentWorkerPool.analyzeBatch(texts);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a sentiment worker", e);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to execute sentiment analysis script", e);
+        }
+    }
+
+    // 워커 대기 시간을 포함한 분석 한 번을 sentiment.analysis Observation으로 기록
+    private Observation observation(String mode, int answers) {
+        return Observation.createNotStarted("sentiment.analysis", observationRegistry)
+                .lowCardinalityKeyValue("engine", engine.toLowerCase())
+                .lowCardinalityKeyValue("mode", mode)
+                .highCardinalityKeyValue("answers", String.valueOf(answers));
+    }
 }
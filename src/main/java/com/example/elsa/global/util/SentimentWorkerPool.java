@@ -0,0 +1,254 @@
+package com.example.elsa.global.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래 실행되는 Python 감성 분석 워커 풀입니다.
+ * <p>
+ * 워커는 처음 사용할 때 시작되어 NLTK와 분석기를 한 번만 로딩하고, 표준 입출력으로 한 줄에 하나씩 JSON 요청/응답을 주고받습니다.
+ * 워커 하나는 한 번에 요청 하나만 처리합니다. 응답 제한 시간은 기본 시간에 답변 수만큼의 시간을 더하고, 아직 응답한 적 없는
+ * 워커(NLTK 로딩 중)에는 시작 시간을 더합니다. 프로세스가 종료되었거나 응답이 제한 시간을 넘기거나 입출력이 실패한 워커는
+ * 종료 후 새로 시작합니다. 유휴 워커는 주기적으로 ping으로 상태를 확인합니다.
+ */
+@Slf4j
+@Component
+public class SentimentWorkerPool {
+
+	private static final TypeReference<Map<String, Object>> RESPONSE_TYPE = new TypeReference<>() {
+	};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong requestIds = new AtomicLong();
+	private final BlockingQueue<Worker> idle = new LinkedBlockingQueue<>();
+	// 상태 확인이 응답을 기다리는 동안에도 제한 시간 처리가 실행되도록 스레드 2개
+	private final ScheduledExecutorService watchdog = Executors.newScheduledThreadPool(2, runnable -> {
+		Thread thread = new Thread(runnable, "Sentiment-Watchdog");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final String interpreter;
+	private final String script;
+	private final int poolSize;
+	private final Duration requestTimeout;
+	private final Duration perAnswerTimeout;
+	private final Duration startupTimeout;
+	private final Duration healthCheckInterval;
+	private volatile boolean started;
+
+	public SentimentWorkerPool(@Value("${python.interpreter:/app/venv/bin/python}") String interpreter,
+		@Value("${python.worker.script:/app/python/sentiment_worker.py}") String script,
+		@Value("${python.worker.pool-size:0}") int poolSize,
+		@Value("${python.worker.request-timeout:10s}") Duration requestTimeout,
+		@Value("${python.worker.per-answer-timeout:100ms}") Duration perAnswerTimeout,
+		@Value("${python.worker.startup-timeout:60s}") Duration startupTimeout,
+		@Value("${python.worker.health-check-interval:30s}") Duration healthCheckInterval) {
+		this.interpreter = interpreter;
+		this.script = script;
+		// 0이면 코어 수만큼
+		this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.requestTimeout = requestTimeout;
+		this.perAnswerTimeout = perAnswerTimeout;
+		this.startupTimeout = startupTimeout;
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
+	/**
+	 * 답변 하나의 감성 점수를 계산합니다. 사용 가능한 워커가 생길 때까지 호출 스레드에서 기다립니다.
+	 *
+	 * @return {"average_compound_score": 점수}, 워커가 답변을 분석하지 못했으면 null
+	 */
+	public Map<String, Object> analyze(String text) throws IOException, InterruptedException {
+		ensureStarted();
+		Worker worker = idle.take();
+		try {
+			Map<String, Object> response = worker.call(Map.of("text", text), 1);
+			if (response.containsKey("error")) {
+				log.warn("Sentiment worker could not analyze answer: {}", response.get("error"));
+				return null;
+			}
+			return Map.of("average_compound_score", response.get("average_compound_score"));
+		} catch (IOException e) {
+			worker = restart(worker);
+			throw e;
+		} finally {
+			idle.add(worker);
+		}
+	}
+
+	/**
+	 * 여러 답변을 요청 한 번으로 분석합니다. 답변은 표준 입력의 JSON 한 줄로 전달되므로 길이 제한이 없습니다.
+	 *
+	 * @return 입력 순서대로의 점수, 분석하지 못한 답변은 null
+	 */
+	public List<Double> analyzeBatch(List<String> texts) throws IOException, InterruptedException {
+		ensureStarted();
+		Worker worker = idle.take();
+		try {
+			Map<String, Object> response = worker.call(Map.of("texts", texts), texts.size());
+			if (!(response.get("scores") instanceof List<?> scores) || scores.size() != texts.size()) {
+				throw new IOException("Sentiment worker " + worker.index + " returned an invalid batch response");
+			}
+			List<Double> result = new ArrayList<>(scores.size());
+			for (Object score : scores) {
+				result.add(score instanceof Number number ? number.doubleValue() : null);
+			}
+			return result;
+		} catch (IOException e) {
+			worker = restart(worker);
+			throw e;
+		} finally {
+			idle.add(worker);
+		}
+	}
+
+	private void ensureStarted() throws IOException {
+		if (started) {
+			return;
+		}
+		synchronized (this) {
+			if (started) {
+				return;
+			}
+			List<Worker> workers = new ArrayList<>();
+			try {
+				for (int i = 0; i < poolSize; i++) {
+					workers.add(new Worker(i));
+				}
+			} catch (IOException e) {
+				workers.forEach(Worker::destroy);
+				throw e;
+			}
+			idle.addAll(workers);
+			watchdog.scheduleWithFixedDelay(this::checkHealth, healthCheckInterval.toMillis(),
+				healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+			started = true;
+			log.info("Started {} sentiment workers ({} {})", poolSize, interpreter, script);
+		}
+	}
+
+	// 유휴 워커를 하나씩 꺼내 ping으로 확인, 응답하지 않는 워커는 재시작
+	private void checkHealth() {
+		List<Worker> checked = new ArrayList<>();
+		Worker worker;
+		while ((worker = idle.poll()) != null) {
+			try {
+				Map<String, Object> response = worker.call(Map.of("op", "ping"), 0);
+				if (!Boolean.TRUE.equals(response.get("pong"))) {
+					throw new IOException("Unexpected ping response: " + response);
+				}
+			} catch (IOException e) {
+				log.warn("Sentiment worker {} failed health check: {}", worker.index, e.getMessage());
+				worker = restart(worker);
+			}
+			checked.add(worker);
+		}
+		idle.addAll(checked);
+	}
+
+	// 재시작에 실패하면 기존 워커를 그대로 돌려주고, 다음 요청이나 상태 확인에서 다시 시도
+	private Worker restart(Worker worker) {
+		worker.destroy();
+		try {
+			Worker restarted = new Worker(worker.index);
+			log.info("Restarted sentiment worker {}", worker.index);
+			return restarted;
+		} catch (IOException e) {
+			log.error("Failed to restart sentiment worker {}", worker.index, e);
+			return worker;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		watchdog.shutdownNow();
+		Worker worker;
+		while ((worker = idle.poll()) != null) {
+			worker.destroy();
+		}
+	}
+
+	private class Worker {
+
+		private final int index;
+		private final Process process;
+		private final BufferedWriter stdin;
+		private final BufferedReader stdout;
+		// 한 번이라도 응답했으면 NLTK 로딩이 끝난 것
+		private volatile boolean ready;
+
+		Worker(int index) throws IOException {
+			this.index = index;
+			this.process = new ProcessBuilder(interpreter, script)
+				.redirectError(ProcessBuilder.Redirect.INHERIT)
+				.start();
+			this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+			this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+		}
+
+		// 요청 한 줄을 보내고 같은 id의 응답 한 줄을 읽음, 제한 시간을 넘기면 프로세스를 종료하여 읽기를 중단
+		Map<String, Object> call(Map<String, Object> payload, int answers) throws IOException {
+			if (!process.isAlive()) {
+				throw new IOException("Sentiment worker " + index + " is not running");
+			}
+			long id = requestIds.incrementAndGet();
+			Map<String, Object> request = new LinkedHashMap<>(payload);
+			request.put("id", id);
+
+			ScheduledFuture<?> timeout = watchdog.schedule(process::destroyForcibly, timeoutFor(answers).toMillis(),
+				TimeUnit.MILLISECONDS);
+			try {
+				stdin.write(objectMapper.writeValueAsString(request));
+				stdin.newLine();
+				stdin.flush();
+				String line = stdout.readLine();
+				if (line == null) {
+					throw new IOException("Sentiment worker " + index + " exited");
+				}
+				Map<String, Object> response = objectMapper.readValue(line, RESPONSE_TYPE);
+				if (!(response.get("id") instanceof Number responseId) || responseId.longValue() != id) {
+					throw new IOException("Sentiment worker " + index + " returned a response for another request");
+				}
+				ready = true;
+				return response;
+			} finally {
+				timeout.cancel(false);
+			}
+		}
+
+		private Duration timeoutFor(int answers) {
+			Duration timeout = requestTimeout.plus(perAnswerTimeout.multipliedBy(answers));
+			return ready ? timeout : timeout.plus(startupTimeout);
+		}
+
+		void destroy() {
+			process.destroyForcibly();
+		}
+	}
+}
@@ -0,0 +1,564 @@
+package com.example.elsa.global.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * python/sentiment_analysis.py와 같은 감성 분석을 JVM 안에서 수행합니다.
+ * <p>
+ * 소문자로 시작하는 답변은 -2.0, 거절/면책 문구가 있는 답변은 -1.0, 나머지는 첫 문장의 VADER compound 점수를 반환합니다.
+ * VADER 규칙은 NLTK의 nltk/sentiment/vader.py를 그대로 옮겼고, 사전(vader_lexicon)은 처음 사용할 때 한 번만 읽습니다.
+ * 사전은 빌드할 때 JAR에 포함되므로(classpath:vader/vader_lexicon.zip) Python이나 NLTK 데이터가 없어도 동작합니다.
+ * 분석 중에는 공유 상태를 변경하지 않으므로 여러 스레드에서 동시에 호출할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class VaderSentimentAnalyzer {
+
+	private static final String LEXICON_ENTRY = "vader_lexicon/vader_lexicon.txt";
+
+	private static final List<String> NEGATIVE_PHRASES = List.of(
+		"I'm sorry", "i'm sorry", "I am sorry", "i am sorry",
+		"sorry", "Sorry", "I cannot", "i cannot", "I can't",
+		"i can't", "It's important", "it's important", "It is important",
+		"it is important", "As an AI", "as an AI", "As a language model",
+		"as a language model", "This statement", "this statement"
+	);
+
+	// VaderConstants
+	private static final double B_INCR = 0.293;
+	private static final double B_DECR = -0.293;
+	private static final double C_INCR = 0.733;
+	private static final double N_SCALAR = -0.74;
+
+	private static final Set<String> NEGATE = Set.of(
+		"aint", "arent", "cannot", "cant", "couldnt", "darent", "didnt", "doesnt",
+		"ain't", "aren't", "can't", "couldn't", "daren't", "didn't", "doesn't",
+		"dont", "hadnt", "hasnt", "havent", "isnt", "mightnt", "mustnt", "neither",
+		"don't", "hadn't", "hasn't", "haven't", "isn't", "mightn't", "mustn't",
+		"neednt", "needn't", "never", "none", "nope", "nor", "not", "nothing", "nowhere",
+		"oughtnt", "shant", "shouldnt", "uhuh", "wasnt", "werent",
+		"oughtn't", "shan't", "shouldn't", "uh-uh", "wasn't", "weren't",
+		"without", "wont", "wouldnt", "won't", "wouldn't", "rarely", "seldom", "despite"
+	);
+
+	private static final Map<String, Double> BOOSTER_DICT = new HashMap<>();
+	private static final Map<String, Double> SPECIAL_CASE_IDIOMS = Map.of(
+		"the shit", 3.0,
+		"the bomb", 3.0,
+		"bad ass", 1.5,
+		"yeah right", -2.0,
+		"cut the mustard", 2.0,
+		"kiss of death", -1.5,
+		"hand to mouth", -2.0
+	);
+
+	private static final List<String> PUNC_LIST = List.of(
+		".", "!", "?", ",", ";", ":", "-", "'", "\"", "!!", "!!!", "??", "???", "?!?", "!?!", "?!?!", "!?!?"
+	);
+	// string.punctuation
+	private static final Pattern PUNCTUATION = Pattern.compile("[!\"#$%&'()*+,\\-./:;<=>?@\\[\\\\\\]^_`{|}~]");
+	// Python str.split()과 같은 공백 기준
+	private static final Pattern WHITESPACE = Pattern.compile("(?U)[\\s\\x1c-\\x1f]+");
+	private static final Pattern TOKEN = Pattern.compile("(?U)[^\\s\\x1c-\\x1f]+");
+	// Punkt에서 단어에 올 수 없는 문자, 문장 끝 문자 바로 뒤에 오면 그 자리가 문장 끝 후보가 됨
+	private static final String NON_WORD_CHARS = ")\";}]*:@'({[?!";
+	// 문장 끝 뒤에 붙어 앞 문장으로 되돌리는 닫는 따옴표/괄호
+	private static final Pattern CLOSING_PUNCT = Pattern.compile("[\"')\\]}]+");
+	// 마침표로 문장이 끝나지 않는 영어 약어 (Punkt 영어 모델의 대표 약어)
+	private static final Set<String> ABBREVIATIONS = Set.of(
+		"mr", "mrs", "ms", "dr", "prof", "sr", "jr", "st", "vs", "etc", "inc", "ltd", "co", "corp", "no", "fig",
+		"approx", "dept", "est", "gov", "gen", "col", "lt", "sgt", "rev", "jan", "feb", "mar", "apr", "jun", "jul",
+		"aug", "sep", "sept", "oct", "nov", "dec", "mt", "ft", "al", "cf", "ca", "viz"
+	);
+
+	static {
+		for (String word : List.of("absolutely", "amazingly", "awfully", "completely", "considerably", "decidedly",
+			"deeply", "effing", "enormously", "entirely", "especially", "exceptionally", "extremely", "fabulously",
+			"flipping", "flippin", "fricking", "frickin", "frigging", "friggin", "fully", "fucking", "greatly", "hella",
+			"highly", "hugely", "incredibly", "intensely", "majorly", "more", "most", "particularly", "purely", "quite",
+			"really", "remarkably", "so", "substantially", "thoroughly", "totally", "tremendously", "uber",
+			"unbelievably", "unusually", "utterly", "very")) {
+			BOOSTER_DICT.put(word, B_INCR);
+		}
+		for (String word : List.of("almost", "barely", "hardly", "just enough", "kind of", "kinda", "kindof",
+			"kind-of", "less", "little", "marginally", "occasionally", "partly", "scarcely", "slightly", "somewhat",
+			"sort of", "sorta", "sortof", "sort-of")) {
+			BOOSTER_DICT.put(word, B_DECR);
+		}
+	}
+
+	private final Resource lexiconResource;
+	private volatile Map<String, Double> lexicon;
+
+	public VaderSentimentAnalyzer(
+		@Value("${sentiment.vader.lexicon:classpath:vader/vader_lexicon.zip}") Resource lexiconResource) {
+		this.lexiconResource = lexiconResource;
+	}
+
+	/**
+	 * @return {"average_compound_score": 점수}, 빈 답변처럼 분석할 수 없으면 null
+	 */
+	public Map<String, Object> analyze(String answer) {
+		Double score = sentimentAnalysis(answer);
+		return score == null ? null : Map.of("average_compound_score", score);
+	}
+
+	/**
+	 * @return 입력 순서대로의 점수, 분석하지 못한 답변은 null
+	 */
+	public List<Double> analyzeBatch(List<String> answers) {
+		List<Double> scores = new ArrayList<>(answers.size());
+		for (String answer : answers) {
+			scores.add(sentimentAnalysis(answer));
+		}
+		return scores;
+	}
+
+	// sentiment_analysis.py의 sentiment_analysis(answer)
+	Double sentimentAnalysis(String answer) {
+		if (answer == null || answer.isEmpty()) {
+			return null;
+		}
+		if (Character.isLowerCase(answer.codePointAt(0))) {
+			return -2.0;
+		}
+		for (String phrase : NEGATIVE_PHRASES) {
+			if (answer.contains(phrase)) {
+				return -1.0;
+			}
+		}
+		String sentence = firstSentence(answer);
+		if (sentence == null) {
+			return null;
+		}
+		return compound(sentence);
+	}
+
+	/**
+	 * nltk.sent_tokenize(text)[0]에 해당하는 첫 문장을 반환합니다.
+	 * <p>
+	 * Punkt의 학습된 영어 모델 대신 주요 규칙만 따릅니다. 토큰마다 뒤에 공백이나 '?', '!', 닫는 괄호 같은 문자가 오는
+	 * 마지막 '.', '?', '!'가 문장 끝 후보이며(e.g., 텍스트 끝의 "great!!!"는 "great!!"에서 끊김), 약어, 한 글자 이니셜,
+	 * 내부에 마침표가 있는 토큰(e.g., U.S.)의 마침표와 소문자로 이어지는 말줄임표는 문장 끝으로 보지 않습니다.
+	 * 대문자로 이어지는 말줄임표는 항상 문장 끝으로 보지만, NLTK는 영어 모델에 기록된 다음 단어의 철자 문맥에 따라
+	 * 나누지 않을 수 있습니다(알려진 차이, application.yml의 sentiment.version 참고).
+	 *
+	 * @return 첫 문장, 공백뿐인 텍스트는 null
+	 */
+	static String firstSentence(String text) {
+		Matcher matcher = TOKEN.matcher(text);
+		if (!matcher.find()) {
+			return null;
+		}
+		int start = matcher.start();
+		while (true) {
+			String token = matcher.group();
+			int tokenStart = matcher.start();
+			String next = matcher.find() ? matcher.group() : null;
+			int end = sentenceEnd(token, next);
+			if (end > 0) {
+				return text.substring(start, tokenStart + end);
+			}
+			if (next == null) {
+				return text.substring(start, tokenStart + token.length());
+			}
+		}
+	}
+
+	/**
+	 * @return 토큰 안에서 문장이 끝나는 위치, 문장이 끝나지 않으면 -1
+	 */
+	private static int sentenceEnd(String token, String next) {
+		int candidate = token.length() - 1;
+		while (candidate >= 0 && !isSentenceEndCandidate(token, candidate, next != null)) {
+			candidate--;
+		}
+		if (candidate < 0) {
+			return -1;
+		}
+		String rest = token.substring(candidate + 1);
+		if (token.charAt(candidate) == '.' && !isPeriodBreak(token.substring(0, candidate), rest.isEmpty() ? next : rest)) {
+			return -1;
+		}
+		return CLOSING_PUNCT.matcher(rest).matches() ? token.length() : candidate + 1;
+	}
+
+	private static boolean isSentenceEndCandidate(String token, int index, boolean hasNext) {
+		char c = token.charAt(index);
+		if (c != '.' && c != '?' && c != '!') {
+			return false;
+		}
+		return index + 1 < token.length() ? NON_WORD_CHARS.indexOf(token.charAt(index + 1)) >= 0 : hasNext;
+	}
+
+	private static boolean isPeriodBreak(String core, String next) {
+		if (core.endsWith("..")) {
+			return !Character.isLowerCase(next.codePointAt(0));
+		}
+		String word = core.replaceAll("^[\"'(\\[{\u2018\u201c]+", "");
+		if (word.isEmpty()) {
+			return true;
+		}
+		if (word.contains(".") || ABBREVIATIONS.contains(lower(word))) {
+			return false;
+		}
+		return !(length(word) == 1 && Character.isLetter(word.codePointAt(0)));
+	}
+
+	/**
+	 * SentimentIntensityAnalyzer.polarity_scores(text)["compound"]
+	 */
+	public double compound(String text) {
+		Map<String, Double> lexicon = lexicon();
+		List<String> words = wordsAndEmoticons(text);
+		boolean isCapDiff = allCapDifferential(words);
+
+		List<Double> sentiments = new ArrayList<>(words.size());
+		for (String item : words) {
+			// vader.py와 같이 같은 단어가 여러 번 나오면 첫 위치 기준
+			int i = words.indexOf(item);
+			String itemLower = lower(item);
+			if ((i < words.size() - 1 && itemLower.equals("kind") && lower(words.get(i + 1)).equals("of"))
+				|| BOOSTER_DICT.containsKey(itemLower)) {
+				sentiments.add(0.0);
+				continue;
+			}
+			sentiments.add(sentimentValence(lexicon, words, isCapDiff, item, i));
+		}
+
+		butCheck(words, sentiments);
+		return scoreValence(sentiments, text);
+	}
+
+	private double sentimentValence(Map<String, Double> lexicon, List<String> words, boolean isCapDiff, String item,
+		int i) {
+		double valence = 0;
+		String itemLower = lower(item);
+		if (!lexicon.containsKey(itemLower)) {
+			return valence;
+		}
+		valence = lexicon.get(itemLower);
+		if (isUpper(item) && isCapDiff) {
+			valence = valence > 0 ? valence + C_INCR : valence - C_INCR;
+		}
+
+		for (int startI = 0; startI < 3; startI++) {
+			if (i > startI && !lexicon.containsKey(lower(words.get(i - (startI + 1))))) {
+				double s = scalarIncDec(words.get(i - (startI + 1)), valence, isCapDiff);
+				if (startI == 1 && s != 0) {
+					s = s * 0.95;
+				}
+				if (startI == 2 && s != 0) {
+					s = s * 0.9;
+				}
+				valence = valence + s;
+				valence = neverCheck(valence, words, startI, i);
+				if (startI == 2) {
+					valence = idiomsCheck(valence, words, i);
+				}
+			}
+		}
+		return leastCheck(lexicon, valence, words, i);
+	}
+
+	private double scalarIncDec(String word, double valence, boolean isCapDiff) {
+		double scalar = 0.0;
+		String wordLower = lower(word);
+		if (BOOSTER_DICT.containsKey(wordLower)) {
+			scalar = BOOSTER_DICT.get(wordLower);
+			if (valence < 0) {
+				scalar *= -1;
+			}
+			if (isUpper(word) && isCapDiff) {
+				scalar = valence > 0 ? scalar + C_INCR : scalar - C_INCR;
+			}
+		}
+		return scalar;
+	}
+
+	private double leastCheck(Map<String, Double> lexicon, double valence, List<String> words, int i) {
+		if (i > 1 && !lexicon.containsKey(lower(words.get(i - 1))) && lower(words.get(i - 1)).equals("least")) {
+			if (!lower(words.get(i - 2)).equals("at") && !lower(words.get(i - 2)).equals("very")) {
+				valence = valence * N_SCALAR;
+			}
+		} else if (i > 0 && !lexicon.containsKey(lower(words.get(i - 1))) && lower(words.get(i - 1)).equals("least")) {
+			valence = valence * N_SCALAR;
+		}
+		return valence;
+	}
+
+	private void butCheck(List<String> words, List<Double> sentiments) {
+		int bi = -1;
+		for (int k = 0; k < words.size(); k++) {
+			if (lower(words.get(k)).equals("but")) {
+				bi = k;
+				break;
+			}
+		}
+		if (bi < 0) {
+			return;
+		}
+		for (int k = 0; k < sentiments.size(); k++) {
+			if (k < bi) {
+				sentiments.set(k, sentiments.get(k) * 0.5);
+			} else if (k > bi) {
+				sentiments.set(k, sentiments.get(k) * 1.5);
+			}
+		}
+	}
+
+	private double idiomsCheck(double valence, List<String> words, int i) {
+		String onezero = words.get(i - 1) + " " + words.get(i);
+		String twoonezero = words.get(i - 2) + " " + words.get(i - 1) + " " + words.get(i);
+		String twoone = words.get(i - 2) + " " + words.get(i - 1);
+		String threetwoone = words.get(i - 3) + " " + words.get(i - 2) + " " + words.get(i - 1);
+		String threetwo = words.get(i - 3) + " " + words.get(i - 2);
+
+		for (String seq : List.of(onezero, twoonezero, twoone, threetwoone, threetwo)) {
+			if (SPECIAL_CASE_IDIOMS.containsKey(seq)) {
+				valence = SPECIAL_CASE_IDIOMS.get(seq);
+				break;
+			}
+		}
+		if (words.size() - 1 > i) {
+			String zeroone = words.get(i) + " " + words.get(i + 1);
+			if (SPECIAL_CASE_IDIOMS.containsKey(zeroone)) {
+				valence = SPECIAL_CASE_IDIOMS.get(zeroone);
+			}
+		}
+		if (words.size() - 1 > i + 1) {
+			String zeroonetwo = words.get(i) + " " + words.get(i + 1) + " " + words.get(i + 2);
+			if (SPECIAL_CASE_IDIOMS.containsKey(zeroonetwo)) {
+				valence = SPECIAL_CASE_IDIOMS.get(zeroonetwo);
+			}
+		}
+		if (BOOSTER_DICT.containsKey(threetwo) || BOOSTER_DICT.containsKey(twoone)) {
+			valence = valence + B_DECR;
+		}
+		return valence;
+	}
+
+	private double neverCheck(double valence, List<String> words, int startI, int i) {
+		if (startI == 0) {
+			if (negated(words.get(i - 1))) {
+				valence = valence * N_SCALAR;
+			}
+		}
+		if (startI == 1) {
+			if (words.get(i - 2).equals("never")
+				&& (words.get(i - 1).equals("so") || words.get(i - 1).equals("this"))) {
+				valence = valence * 1.5;
+			} else if (negated(words.get(i - (startI + 1)))) {
+				valence = valence * N_SCALAR;
+			}
+		}
+		if (startI == 2) {
+			if (words.get(i - 3).equals("never")
+				&& (words.get(i - 2).equals("so") || words.get(i - 2).equals("this"))
+				|| (words.get(i - 1).equals("so") || words.get(i - 1).equals("this"))) {
+				valence = valence * 1.25;
+			} else if (negated(words.get(i - (startI + 1)))) {
+				valence = valence * N_SCALAR;
+			}
+		}
+		return valence;
+	}
+
+	// VaderConstants.negated([word])
+	private boolean negated(String word) {
+		String wordLower = lower(word);
+		return NEGATE.contains(wordLower) || wordLower.contains("n't");
+	}
+
+	private double scoreValence(List<Double> sentiments, String text) {
+		if (sentiments.isEmpty()) {
+			return 0.0;
+		}
+		double sum = 0.0;
+		for (double sentiment : sentiments) {
+			sum += sentiment;
+		}
+		double punctEmphAmplifier = amplifyEp(text) + amplifyQm(text);
+		if (sum > 0) {
+			sum += punctEmphAmplifier;
+		} else if (sum < 0) {
+			sum -= punctEmphAmplifier;
+		}
+		double compound = sum / Math.sqrt(sum * sum + 15);
+		// Python round(compound, 4)
+		return new BigDecimal(compound).setScale(4, RoundingMode.HALF_EVEN).doubleValue();
+	}
+
+	private double amplifyEp(String text) {
+		long count = Math.min(4, text.chars().filter(c -> c == '!').count());
+		return count * 0.292;
+	}
+
+	private double amplifyQm(String text) {
+		long count = text.chars().filter(c -> c == '?').count();
+		if (count > 1) {
+			return count <= 3 ? count * 0.18 : 0.96;
+		}
+		return 0;
+	}
+
+	// SentiText._words_and_emoticons: 앞뒤 문장부호를 떼어 내되 축약형과 대부분의 이모티콘은 유지
+	private List<String> wordsAndEmoticons(String text) {
+		Set<String> wordsOnly = new HashSet<>();
+		for (String word : split(PUNCTUATION.matcher(text).replaceAll(""))) {
+			if (length(word) > 1) {
+				wordsOnly.add(word);
+			}
+		}
+
+		List<String> words = new ArrayList<>();
+		for (String token : split(text)) {
+			if (length(token) > 1) {
+				words.add(stripPunctuation(token, wordsOnly));
+			}
+		}
+		return words;
+	}
+
+	// _words_plus_punc 사전 조회와 같음: "단어+문장부호"가 우선, 다음으로 "문장부호+단어"
+	private String stripPunctuation(String token, Set<String> wordsOnly) {
+		for (String punc : PUNC_LIST) {
+			if (token.endsWith(punc) && wordsOnly.contains(token.substring(0, token.length() - punc.length()))) {
+				return token.substring(0, token.length() - punc.length());
+			}
+		}
+		for (String punc : PUNC_LIST) {
+			if (token.startsWith(punc) && wordsOnly.contains(token.substring(punc.length()))) {
+				return token.substring(punc.length());
+			}
+		}
+		return token;
+	}
+
+	// 일부 단어만 모두 대문자인지 여부
+	private boolean allCapDifferential(List<String> words) {
+		int allCapWords = 0;
+		for (String word : words) {
+			if (isUpper(word)) {
+				allCapWords++;
+			}
+		}
+		int capDifferential = words.size() - allCapWords;
+		return 0 < capDifferential && capDifferential < words.size();
+	}
+
+	private static List<String> split(String text) {
+		List<String> tokens = new ArrayList<>();
+		for (String token : WHITESPACE.split(text)) {
+			if (!token.isEmpty()) {
+				tokens.add(token);
+			}
+		}
+		return tokens;
+	}
+
+	// Python str.isupper(): 대소문자가 있는 문자가 하나 이상이고 모두 대문자
+	static boolean isUpper(String word) {
+		boolean cased = false;
+		for (int k = 0; k < word.length(); ) {
+			int codePoint = word.codePointAt(k);
+			if (Character.isLowerCase(codePoint) || Character.isTitleCase(codePoint)) {
+				return false;
+			}
+			if (Character.isUpperCase(codePoint)) {
+				cased = true;
+			}
+			k += Character.charCount(codePoint);
+		}
+		return cased;
+	}
+
+	private static String lower(String word) {
+		return word.toLowerCase(Locale.ROOT);
+	}
+
+	private static int length(String word) {
+		return word.codePointCount(0, word.length());
+	}
+
+	private Map<String, Double> lexicon() {
+		Map<String, Double> loaded = lexicon;
+		if (loaded == null) {
+			synchronized (this) {
+				loaded = lexicon;
+				if (loaded == null) {
+					loaded = loadLexicon();
+					lexicon = loaded;
+				}
+			}
+		}
+		return loaded;
+	}
+
+	// NLTK 배포 형식(vader_lexicon.zip) 또는 압축을 푼 vader_lexicon.txt
+	private Map<String, Double> loadLexicon() {
+		try {
+			Map<String, Double> loaded = null;
+			String filename = lexiconResource.getFilename();
+			if (filename != null && filename.endsWith(".zip")) {
+				try (ZipInputStream zip = new ZipInputStream(lexiconResource.getInputStream())) {
+					ZipEntry entry;
+					while ((entry = zip.getNextEntry()) != null) {
+						if (LEXICON_ENTRY.equals(entry.getName())) {
+							loaded = readLexicon(zip);
+							break;
+						}
+					}
+				}
+				if (loaded == null) {
+					throw new IOException(LEXICON_ENTRY + " not found in " + lexiconResource);
+				}
+			} else {
+				try (InputStream in = lexiconResource.getInputStream()) {
+					loaded = readLexicon(in);
+				}
+			}
+			log.info("Loaded VADER lexicon with {} entries from {}", loaded.size(), lexiconResource);
+			return loaded;
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to load VADER lexicon from " + lexiconResource, e);
+		}
+	}
+
+	// 스트림은 호출자가 닫음 (zip 항목을 읽은 뒤에도 ZipInputStream을 닫지 않도록)
+	private Map<String, Double> readLexicon(InputStream in) throws IOException {
+		Map<String, Double> loaded = new HashMap<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			String[] columns = line.strip().split("\t");
+			if (columns.length >= 2) {
+				loaded.put(columns[0], Double.parseDouble(columns[1]));
+			}
+		}
+		return loaded;
+	}
+}
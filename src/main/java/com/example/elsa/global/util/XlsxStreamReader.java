@@ -0,0 +1,276 @@
+package com.example.elsa.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * XLSX 파일을 워크북 전체를 메모리에 올리지 않고 행 단위로 읽습니다.
+ * <p>
+ * 업로드 파일을 임시 파일로 복사한 뒤 XSSFReader로 시트 XML을 SAX로 읽고, 행이 끝날 때마다 {@link RowHandler}에 넘깁니다.
+ * 메모리에는 공유 문자열 표와 현재 행만 유지되므로 행 수가 늘어도 사용량이 늘지 않습니다.
+ * 셀 값은 기존 DOM 방식(ExcelHelper)과 같게 해석합니다. 숫자는 double의 문자열, 수식 셀은 FORMULA 타입입니다.
+ */
+public final class XlsxStreamReader {
+
+	public enum CellType {
+		STRING, NUMERIC, BOOLEAN, FORMULA, ERROR, BLANK
+	}
+
+	public static final class Cell {
+
+		private final int column;
+		private final CellType type;
+		private final String value;
+
+		Cell(int column, CellType type, String value) {
+			this.column = column;
+			this.type = type;
+			this.value = value;
+		}
+
+		public int getColumn() {
+			return column;
+		}
+
+		public CellType getType() {
+			return type;
+		}
+
+		/**
+		 * 문자열 셀은 문자열, 수식 셀은 계산된 값, 빈 셀은 ""
+		 */
+		public String getStringValue() {
+			return value;
+		}
+
+		/**
+		 * 문자열/숫자/불리언 셀의 값을 앞뒤 공백 없이 반환하고, 그 외의 셀은 ""
+		 */
+		public String getValueAsString() {
+			switch (type) {
+				case STRING:
+				case NUMERIC:
+				case BOOLEAN:
+					return value.trim();
+				default:
+					return "";
+			}
+		}
+	}
+
+	/**
+	 * 시트와 행을 순서대로 받습니다. cells는 열 번호 → 셀이며 열 순서로 들어 있고, 호출이 끝나면 재사용하지 않습니다.
+	 */
+	public interface RowHandler {
+
+		default void startSheet(int sheetIndex, String sheetName) {
+		}
+
+		void row(int rowNum, Map<Integer, Cell> cells);
+
+		default void endSheet() {
+		}
+	}
+
+	private XlsxStreamReader() {
+	}
+
+	/**
+	 * @param maxSheets 읽을 최대 시트 수, 0 이하이면 모든 시트
+	 */
+	public static void read(MultipartFile file, int maxSheets, RowHandler handler) throws IOException {
+		Path tempFile = Files.createTempFile("upload-", ".xlsx");
+		try {
+			try (InputStream in = file.getInputStream()) {
+				Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+			read(tempFile, maxSheets, handler);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	public static void read(Path path, int maxSheets, RowHandler handler) throws IOException {
+		OPCPackage pkg;
+		try {
+			pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+		} catch (OpenXML4JException | RuntimeException e) {
+			throw new IOException("Not a valid XLSX file", e);
+		}
+		try {
+			XSSFReader reader = new XSSFReader(pkg);
+			ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator)reader.getSheetsData();
+			int sheetIndex = 0;
+			while (sheets.hasNext() && (maxSheets <= 0 || sheetIndex < maxSheets)) {
+				try (InputStream sheet = sheets.next()) {
+					handler.startSheet(sheetIndex, sheets.getSheetName());
+					XMLReader xmlReader = XMLHelper.newXMLReader();
+					xmlReader.setContentHandler(new SheetHandler(sharedStrings, handler));
+					xmlReader.parse(new InputSource(sheet));
+					handler.endSheet();
+				}
+				sheetIndex++;
+			}
+		} catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+			throw new IOException("Failed to read XLSX file", e);
+		} finally {
+			pkg.revert();
+		}
+	}
+
+	// 시트 XML(<row>/<c>/<v>, <is><t>, <f>)을 읽어 행 단위로 전달
+	private static class SheetHandler extends DefaultHandler {
+
+		private final ReadOnlySharedStringsTable sharedStrings;
+		private final RowHandler handler;
+
+		private Map<Integer, Cell> cells = new LinkedHashMap<>();
+		private int rowNum = -1;
+		private int column = -1;
+		private String cellType;
+		private boolean formula;
+		private boolean inValue;
+		private boolean inInlineString;
+		private boolean inPhonetic;
+		private boolean inText;
+		private final StringBuilder value = new StringBuilder();
+
+		SheetHandler(ReadOnlySharedStringsTable sharedStrings, RowHandler handler) {
+			this.sharedStrings = sharedStrings;
+			this.handler = handler;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			switch (localName) {
+				case "row":
+					String rowRef = attributes.getValue("r");
+					rowNum = rowRef != null ? Integer.parseInt(rowRef) - 1 : rowNum + 1;
+					column = -1;
+					cells = new LinkedHashMap<>();
+					break;
+				case "c":
+					String cellRef = attributes.getValue("r");
+					column = cellRef != null ? columnIndex(cellRef) : column + 1;
+					cellType = attributes.getValue("t");
+					formula = false;
+					value.setLength(0);
+					break;
+				case "f":
+					formula = true;
+					break;
+				case "v":
+					inValue = true;
+					break;
+				case "is":
+					inInlineString = true;
+					break;
+				case "rPh":
+					inPhonetic = true;
+					break;
+				case "t":
+					inText = inInlineString && !inPhonetic;
+					break;
+				default:
+					break;
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			switch (localName) {
+				case "row":
+					handler.row(rowNum, Collections.unmodifiableMap(cells));
+					break;
+				case "c":
+					cells.put(column, toCell());
+					break;
+				case "v":
+					inValue = false;
+					break;
+				case "is":
+					inInlineString = false;
+					break;
+				case "rPh":
+					inPhonetic = false;
+					break;
+				case "t":
+					inText = false;
+					break;
+				default:
+					break;
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (inValue || inText) {
+				value.append(ch, start, length);
+			}
+		}
+
+		private Cell toCell() {
+			String raw = value.toString();
+			if ("inlineStr".equals(cellType)) {
+				return new Cell(column, formula ? CellType.FORMULA : CellType.STRING, raw);
+			}
+			if (raw.isEmpty()) {
+				return new Cell(column, CellType.BLANK, "");
+			}
+			if (formula) {
+				return new Cell(column, CellType.FORMULA, raw);
+			}
+			if (cellType == null || "n".equals(cellType)) {
+				return new Cell(column, CellType.NUMERIC, String.valueOf(Double.parseDouble(raw)));
+			}
+			switch (cellType) {
+				case "s":
+					return new Cell(column, CellType.STRING,
+						sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString());
+				case "str":
+					return new Cell(column, CellType.STRING, raw);
+				case "b":
+					return new Cell(column, CellType.BOOLEAN, String.valueOf("1".equals(raw.trim())));
+				case "e":
+					return new Cell(column, CellType.ERROR, raw);
+				default:
+					return new Cell(column, CellType.STRING, raw);
+			}
+		}
+
+		// "AB12" → 27
+		private static int columnIndex(String cellRef) {
+			int index = 0;
+			for (int i = 0; i < cellRef.length(); i++) {
+				char c = cellRef.charAt(i);
+				if (c < 'A' || c > 'Z') {
+					break;
+				}
+				index = index * 26 + (c - 'A' + 1);
+			}
+			return index - 1;
+		}
+	}
+}
@@ -3,7 +3,7 @@ import json
 from nltk.tokenize import sent_tokenize
 from nltk.sentiment import SentimentIntensityAnalyzer
 
-def sentiment_analysis(answer):
+def sentiment_analysis(answer, sid=None):
 
     if answer[0].islower():
         return -2.0
@@ -22,7 +22,8 @@ def sentiment_analysis(answer):
 
     sentences = sent_tokenize(answer)
     compound_scores = []
-    sid = SentimentIntensityAnalyzer()
+    if sid is None:
+        sid = SentimentIntensityAnalyzer()
     for sentence in sentences:
         scores = sid.polarity_scores(sentence)
         compound_scores.append(scores['compound'])
@@ -0,0 +1,55 @@
+import io
+import json
+import sys
+
+from nltk.sentiment import SentimentIntensityAnalyzer
+
+from sentiment_analysis import sentiment_analysis
+
+# 오래 실행되는 감성 분석 워커
+# 표준 입력으로 한 줄에 하나씩 JSON 요청을 받고, 같은 id의 JSON 응답을 한 줄씩 표준 출력으로 돌려준다.
+#   요청: {"id": 1, "text": "..."}, {"id": 2, "texts": ["...", "..."]} 또는 {"id": 3, "op": "ping"}
+#   응답: {"id": 1, "average_compound_score": 0.42}, {"id": 2, "scores": [0.42, null]}, {"id": 3, "pong": true}
+#         또는 {"id": 1, "error": "..."}
+# 배치 요청은 입력 순서대로 점수를 돌려주며, 분석하지 못한 답변은 null
+
+
+def handle(request, sid):
+    if request.get("op") == "ping":
+        return {"id": request.get("id"), "pong": True}
+    if "texts" in request:
+        return {"id": request.get("id"), "scores": [analyze_or_none(text, sid) for text in request["texts"]]}
+    score = sentiment_analysis(request["text"], sid)
+    return {"id": request.get("id"), "average_compound_score": score}
+
+
+def analyze_or_none(text, sid):
+    try:
+        return sentiment_analysis(text, sid)
+    except Exception as e:
+        print("sentiment analysis failed: %s: %s" % (type(e).__name__, e), file=sys.stderr, flush=True)
+        return None
+
+
+def main():
+    # NLTK 로딩과 분석기 생성은 워커당 한 번만
+    sid = SentimentIntensityAnalyzer()
+    stdin = io.TextIOWrapper(sys.stdin.buffer, encoding="utf-8")
+    for line in stdin:
+        line = line.strip()
+        if not line:
+            continue
+        try:
+            request = json.loads(line)
+        except ValueError as e:
+            print(json.dumps({"id": None, "error": "invalid request: %s" % e}), flush=True)
+            continue
+        try:
+            response = handle(request, sid)
+        except Exception as e:
+            response = {"id": request.get("id"), "error": "%s: %s" % (type(e).__name__, e)}
+        print(json.dumps(response), flush=True)
+
+
+if __name__ == "__main__":
+    main()
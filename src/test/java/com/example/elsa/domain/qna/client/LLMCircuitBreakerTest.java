@@ -0,0 +1,64 @@
+package com.example.elsa.domain.qna.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LLMCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 50;
+
+    // 호출 2개 중 하나라도 실패하면 열림, 반열림에서는 시험 호출 1개
+    private final LLMCircuitBreaker breaker = new LLMCircuitBreaker("test", 2, 2, 0.5, 1.0,
+        TimeUnit.SECONDS.toNanos(30), TimeUnit.MILLISECONDS.toNanos(OPEN_MILLIS), 1);
+
+    @Test
+    void lateSuccessFromClosedStateDoesNotCountAsTrialCall() throws Exception {
+        CompletableFuture<String> late = new CompletableFuture<>();
+        CompletableFuture<String> lateResult = breaker.execute(() -> late);
+        openBreaker();
+        Thread.sleep(OPEN_MILLIS + 10);
+
+        CompletableFuture<String> trial = new CompletableFuture<>();
+        breaker.execute(() -> trial);
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.HALF_OPEN);
+
+        late.complete("late");
+        assertThat(lateResult.join()).isEqualTo("late");
+        // 늦은 성공으로 닫히지 않고, 시험 호출 자리도 반납되지 않음
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.execute(() -> CompletableFuture.completedFuture("extra")))
+            .isCompletedExceptionally();
+
+        trial.complete("trial");
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void lateFailureFromClosedStateDoesNotReopenHalfOpenBreaker() throws Exception {
+        CompletableFuture<String> late = new CompletableFuture<>();
+        breaker.execute(() -> late);
+        openBreaker();
+        Thread.sleep(OPEN_MILLIS + 10);
+
+        CompletableFuture<String> trial = new CompletableFuture<>();
+        breaker.execute(() -> trial);
+
+        late.completeExceptionally(new IOException("connection reset"));
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.HALF_OPEN);
+
+        trial.complete("trial");
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.CLOSED);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 2; i++) {
+            breaker.execute(() -> CompletableFuture.failedFuture(new IOException("boom")));
+        }
+        assertThat(breaker.getState()).isEqualTo(LLMCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.elsa.domain.qna.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.example.elsa.domain.qna.client.StubProvider;
+import com.example.elsa.domain.qna.enums.LLMModel;
+
+/**
+ * 스레드 풀 모드와 가상 스레드 모드의 처리량을 스텁 제공자로 비교합니다.
+ * <p>
+ * 작업마다 스텁 제공자에 요청한 뒤 응답이 올 때까지 스레드를 막고 기다리므로, 블로킹 I/O 작업에서 각 모드의 동시 실행 한도가 그대로 드러납니다.
+ * 운영 스케줄러와 분리된 전용 스케줄러를 사용하며, 두 모드의 결과와 처리량 비율을 로그로 남깁니다.
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark로 실행합니다.
+ */
+@Tag("benchmark")
+class ExecutorBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorBenchmarkTest.class);
+
+    private static final int TASKS = 400;
+    private static final int PLATFORM_THREADS = 16;
+    private static final int PERMITS = 256;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private StubProvider stubProvider;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("Benchmark-Scheduler-");
+        scheduler.initialize();
+        stubProvider = new StubProvider(scheduler, null, Duration.ofMillis(50), Duration.ofMillis(200), 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsOutperformPlatformPoolOnBlockingCalls() {
+        Map<String, Object> platformStats;
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(PLATFORM_THREADS);
+        platform.setMaxPoolSize(PLATFORM_THREADS);
+        platform.setQueueCapacity(TASKS);
+        platform.setThreadNamePrefix("Benchmark-");
+        platform.initialize();
+        try {
+            platformStats = measure(platform, null);
+        } finally {
+            platform.shutdown();
+        }
+
+        Map<String, Object> virtualStats;
+        try (SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("Benchmark-Virtual-")) {
+            virtual.setVirtualThreads(true);
+            virtualStats = measure(virtual, new Semaphore(PERMITS));
+        }
+
+        long platformMs = (long)platformStats.get("elapsedMs");
+        long virtualMs = (long)virtualStats.get("elapsedMs");
+        log.info("Platform threads ({}): {}", PLATFORM_THREADS, platformStats);
+        log.info("Virtual threads ({} permits): {}", PERMITS, virtualStats);
+        log.info("Virtual / platform throughput: {}x", String.format("%.1f", (double)platformMs / Math.max(1, virtualMs)));
+
+        assertThat(platformStats).containsEntry("completed", TASKS).containsEntry("errors", 0);
+        assertThat(virtualStats).containsEntry("completed", TASKS).containsEntry("errors", 0);
+        // 동시 실행 한도가 16배이므로 지연 시간 분포가 흔들려도 가상 스레드 쪽이 빨라야 함
+        assertThat(virtualMs).isLessThan(platformMs);
+    }
+
+    private Map<String, Object> measure(AsyncTaskExecutor executor, Semaphore semaphore) {
+        long[] latencies = new long[TASKS];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (semaphore != null) {
+                    semaphore.acquireUninterruptibly();
+                }
+                try {
+                    stubProvider.submit(LLMModel.GPT_4o, "benchmark " + index, 16).join();
+                    completed.incrementAndGet();
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    if (semaphore != null) {
+                        semaphore.release();
+                    }
+                    latencies[index] = System.nanoTime() - submittedAt;
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        Arrays.sort(latencies);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("completed", completed.get());
+        stats.put("errors", errors.get());
+        stats.put("elapsedMs", elapsedMs);
+        stats.put("throughputPerSecond", String.format("%.1f", TASKS * 1000.0 / Math.max(1, elapsedMs)));
+        stats.put("p50Ms", percentile(latencies, 0.5));
+        stats.put("p99Ms", percentile(latencies, 0.99));
+        return stats;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int)Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000;
+    }
+}
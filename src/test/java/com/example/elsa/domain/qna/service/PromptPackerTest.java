@@ -0,0 +1,144 @@
+package com.example.elsa.domain.qna.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.elsa.domain.qna.dto.PromptPack;
+import com.example.elsa.domain.qna.entity.QnaSet;
+
+class PromptPackerTest {
+
+    private final PromptPacker packer = new PromptPacker(true, 2000, 40);
+
+    @Test
+    void renumbersItemsAcrossQnaSetsAndKeepsContextLines() {
+        QnaSet first = new QnaSet("1. 첫 질문\n2) 두 번째 질문", null);
+        QnaSet second = new QnaSet("다음 항목에 답하세요\n\n1. 세 번째 질문", null);
+
+        List<PromptPack> packs = packer.pack(List.of(first, second), "");
+
+        assertThat(packs).hasSize(1);
+        PromptPack pack = packs.get(0);
+        assertThat(pack.getPrompt()).isEqualTo(PromptPacker.INSTRUCTION
+            + "\n1. 첫 질문\n2. 두 번째 질문\n"
+            + "\n다음 항목에 답하세요\n3. 세 번째 질문");
+        assertThat(pack.getQnaSets()).containsExactly(first, second);
+        assertThat(pack.getItemCounts()).containsExactly(2, 1);
+        assertThat(pack.getTotalItems()).isEqualTo(3);
+    }
+
+    @Test
+    void startsNewPackWhenItemBudgetIsExceeded() {
+        PromptPacker smallPacker = new PromptPacker(true, 2000, 3);
+        QnaSet first = new QnaSet("1. a\n2. b", null);
+        QnaSet second = new QnaSet("1. c\n2. d", null);
+
+        List<PromptPack> packs = smallPacker.pack(List.of(first, second), "문맥\n");
+
+        assertThat(packs).hasSize(2);
+        assertThat(packs.get(0).getPrompt()).startsWith("문맥\n" + PromptPacker.INSTRUCTION).endsWith("1. a\n2. b");
+        assertThat(packs.get(1).getPrompt()).endsWith("1. c\n2. d");
+        assertThat(packs.get(1).getItemCounts()).containsExactly(2);
+    }
+
+    @Test
+    void onlyQnaSetsWithNumberedItemsArePackable() {
+        assertThat(packer.isPackable(new QnaSet("1. 질문", null))).isTrue();
+        assertThat(packer.isPackable(new QnaSet("번호 없는 질문", null))).isFalse();
+    }
+
+    @Test
+    void demuxesNumberedAnswersInAnyOrder() {
+        PromptPack pack = packOf(2, 1);
+
+        Optional<List<String[]>> result = packer.demux(pack, "2. No\nQ1: yes\n3) **NO** because of ...");
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).hasSize(2);
+        assertThat(result.get().get(0)).containsExactly("Yes", "No");
+        assertThat(result.get().get(1)).containsExactly("No");
+    }
+
+    @Test
+    void demuxesPositionOnlyAnswers() {
+        PromptPack pack = packOf(2, 1);
+
+        Optional<List<String[]>> result = packer.demux(pack, "Yes\nNo\n설명 줄\nNo");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().get(0)).containsExactly("Yes", "No");
+        assertThat(result.get().get(1)).containsExactly("No");
+    }
+
+    @Test
+    void keepsFirstAnswerForDuplicateNumbers() {
+        PromptPack pack = packOf(2, 1);
+
+        Optional<List<String[]>> result = packer.demux(pack, "1. Yes\n1. No\n2. No\n3. Yes");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().get(0)).containsExactly("Yes", "No");
+        assertThat(result.get().get(1)).containsExactly("Yes");
+    }
+
+    @Test
+    void doesNotFallBackToPositionWhenSomeAnswersAreNumbered() {
+        PromptPack pack = packOf(2, 1);
+
+        // 2번이 빠져 번호로는 나눌 수 없음, 줄 순서로 나누면 3번 답이 2번에 들어가므로 empty
+        assertThat(packer.demux(pack, "1. Yes\n3. No\nYes")).isEmpty();
+    }
+
+    @Test
+    void ignoresNumbersOutsideThePack() {
+        PromptPack pack = packOf(1, 1);
+
+        Optional<List<String[]>> result = packer.demux(pack, "1. No\n2. Yes\n7. No");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().get(0)).containsExactly("No");
+        assertThat(result.get().get(1)).containsExactly("Yes");
+    }
+
+    @Test
+    void returnsEmptyWhenItemCountDoesNotMatch() {
+        PromptPack pack = packOf(2, 1);
+
+        assertThat(packer.demux(pack, "1. Yes\n2. No")).isEmpty();
+        assertThat(packer.demux(pack, "Yes\nNo\nYes\nNo")).isEmpty();
+        assertThat(packer.demux(pack, "모르겠습니다")).isEmpty();
+    }
+
+    @Test
+    void splitsAnswersAtPerQnaSetOffsets() {
+        PromptPack pack = packOf(1, 3, 2);
+
+        Optional<List<String[]>> result = packer.demux(pack, "1. Yes\n2. No\n3. No\n4. Yes\n5. No\n6. Yes");
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).hasSize(3);
+        assertThat(result.get().get(0)).containsExactly("Yes");
+        assertThat(result.get().get(1)).containsExactly("No", "No", "Yes");
+        assertThat(result.get().get(2)).containsExactly("No", "Yes");
+    }
+
+    // 항목 수가 counts인 QnaSet들을 한 묶음으로
+    private PromptPack packOf(int... counts) {
+        List<QnaSet> qnaSets = new ArrayList<>();
+        for (int count : counts) {
+            StringBuilder question = new StringBuilder();
+            for (int i = 1; i <= count; i++) {
+                question.append(i).append(". 질문 ").append(i).append('\n');
+            }
+            qnaSets.add(new QnaSet(question.toString(), null));
+        }
+        List<PromptPack> packs = packer.pack(qnaSets, "");
+        assertThat(packs).hasSize(1);
+        return packs.get(0);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.elsa.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.example.elsa.domain.qna.client.AdaptiveRateLimiter;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+
+class ContextPropagatingTaskDecoratorTest {
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private final ContextPropagatingTaskDecorator contextPropagation;
+
+    ContextPropagatingTaskDecoratorTest() {
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        contextPropagation = new ContextPropagatingTaskDecorator(observationRegistry);
+    }
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void appliesCapturedContextOnAnotherThreadAndRestoresIt() throws Exception {
+        Observation parent = Observation.start("scoring", observationRegistry);
+        ContextPropagatingTaskDecorator.Snapshot snapshot;
+        Observation.Scope scope = parent.openScope();
+        try {
+            MDC.put(RequestIdFilter.MDC_KEY, "req-1");
+            snapshot = contextPropagation.capture();
+        } finally {
+            scope.close();
+        }
+        MDC.clear();
+
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<ObservationView> childParent = new AtomicReference<>();
+        AtomicReference<String> afterwards = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            MDC.put(RequestIdFilter.MDC_KEY, "other");
+            snapshot.wrap(() -> {
+                requestId.set(MDC.get(RequestIdFilter.MDC_KEY));
+                Observation child = Observation.start("llm.provider.call", observationRegistry);
+                childParent.set(child.getContext().getParentObservation());
+                child.stop();
+            }).run();
+            afterwards.set(MDC.get(RequestIdFilter.MDC_KEY));
+        });
+        thread.start();
+        thread.join();
+        parent.stop();
+
+        assertThat(requestId.get()).isEqualTo("req-1");
+        assertThat(childParent.get()).isSameAs(parent);
+        // 실행 스레드의 원래 MDC로 되돌림
+        assertThat(afterwards.get()).isEqualTo("other");
+    }
+
+    @Test
+    void rateLimiterDispatchesQueuedCallWithSubmitterContext() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // 동시 실행 창이 1이므로 두 번째 요청은 첫 요청이 끝난 스레드에서 시작됨
+            AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", scheduler, contextPropagation,
+                6000, 1_000_000, 1, 1);
+            CompletableFuture<String> first = new CompletableFuture<>();
+            MDC.put(RequestIdFilter.MDC_KEY, "req-1");
+            limiter.submit(1, () -> first);
+            MDC.put(RequestIdFilter.MDC_KEY, "req-2");
+            CompletableFuture<String> second = limiter.submit(1,
+                () -> CompletableFuture.completedFuture(MDC.get(RequestIdFilter.MDC_KEY)));
+            MDC.clear();
+
+            assertThat(second).isNotDone();
+            Thread completer = new Thread(() -> first.complete("done"));
+            completer.start();
+            completer.join();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("req-2");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
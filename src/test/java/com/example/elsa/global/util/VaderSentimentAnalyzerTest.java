@@ -0,0 +1,118 @@
+package com.example.elsa.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * VaderSentimentAnalyzer와 python/sentiment_analysis.py의 결과가 같은지 확인합니다.
+ * <p>
+ * 기대값(vader/parity_corpus.tsv)은 NLTK 3.8.1의 SentimentIntensityAnalyzer와 sentiment_analysis.py로 만든 값이며,
+ * 두 구현 모두 같은 테스트용 사전(vader/vader_lexicon.txt, vader_lexicon 형식의 일부 단어)을 사용합니다.
+ * 현재 값은 학습된 Punkt 영어 모델(english.pickle) 없이, Punkt 알고리즘에 영어 모델의 대표 약어
+ * (VaderSentimentAnalyzer의 약어 목록과 u.s)만 넣어 계산했으므로 문장 분리의 일치는 약어 목록 범위에서만 확인됩니다.
+ * 영어 모델의 철자 문맥에 따라 결과가 달라지는 경우(말줄임표 뒤의 대문자 단어)는 unverified로 표시되어 건너뜁니다.
+ * punkt를 내려받을 수 있는 환경에서 vader/generate_parity_corpus.py로 기대값을 다시 계산하면 모든 행을 확인합니다.
+ */
+class VaderSentimentAnalyzerTest {
+
+    private static final VaderSentimentAnalyzer analyzer = new VaderSentimentAnalyzer(
+        new ClassPathResource("vader/vader_lexicon.txt"));
+
+    static Stream<Arguments> corpus() throws IOException {
+        List<Arguments> cases = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            Objects.requireNonNull(VaderSentimentAnalyzerTest.class.getClassLoader()
+                .getResourceAsStream("vader/parity_corpus.tsv")), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                boolean verified = columns.length < 3 || !"unverified".equals(columns[2]);
+                cases.add(Arguments.of(columns[0], Double.parseDouble(columns[1]), verified));
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void matchesNltkScore(String answer, double expected, boolean verified) {
+        assumeTrue(verified, "NLTK 기대값이 없는 행 (generate_parity_corpus.py로 다시 계산 필요)");
+        assertThat(analyzer.sentimentAnalysis(answer)).isEqualTo(expected);
+    }
+
+    @Test
+    void returnsSentinelsBeforeScoring() {
+        assertThat(analyzer.sentimentAnalysis("great answer.")).isEqualTo(-2.0);
+        assertThat(analyzer.sentimentAnalysis("Great, but as a language model I prefer not to.")).isEqualTo(-1.0);
+    }
+
+    @Test
+    void splitsFirstSentenceAroundAbbreviationsAndInitials() {
+        assertThat(VaderSentimentAnalyzer.firstSentence("Dr. Smith agreed. Then left.")).isEqualTo("Dr. Smith agreed.");
+        assertThat(VaderSentimentAnalyzer.firstSentence("The U.S. policy is fine. Others disagree."))
+            .isEqualTo("The U.S. policy is fine.");
+        assertThat(VaderSentimentAnalyzer.firstSentence("J. Doe was happy. Then sad.")).isEqualTo("J. Doe was happy.");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Wait... this is good. Not bad.")).isEqualTo("Wait... this is good.");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Absolutely! The model helps.")).isEqualTo("Absolutely!");
+        assertThat(VaderSentimentAnalyzer.firstSentence("   ")).isNull();
+    }
+
+    @Test
+    void splitsRepeatedEndPunctuationLikePunkt() {
+        // 텍스트 끝의 연속된 문장 부호는 마지막 한 글자가 다음 문장으로 분리됨
+        assertThat(VaderSentimentAnalyzer.firstSentence("This is great!!!")).isEqualTo("This is great!!");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Is it good?!?")).isEqualTo("Is it good?!");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Wow!!! Great.")).isEqualTo("Wow!!!");
+        assertThat(VaderSentimentAnalyzer.firstSentence("It is good!!)")).isEqualTo("It is good!!)");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Fine!!!\" ok")).isEqualTo("Fine!!!\"");
+        assertThat(VaderSentimentAnalyzer.firstSentence("Great.!")).isEqualTo("Great.");
+        assertThat(VaderSentimentAnalyzer.firstSentence("It ends...")).isEqualTo("It ends...");
+    }
+
+    @Test
+    void loadsLexiconFromNltkZip(@TempDir Path dir) throws IOException {
+        Path zipPath = dir.resolve("vader_lexicon.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(zipPath));
+             InputStream lexicon = new ClassPathResource("vader/vader_lexicon.txt").getInputStream()) {
+            zip.putNextEntry(new ZipEntry("vader_lexicon/vader_lexicon.txt"));
+            lexicon.transferTo(zip);
+            zip.closeEntry();
+        }
+
+        VaderSentimentAnalyzer zipped = new VaderSentimentAnalyzer(new FileSystemResource(zipPath));
+
+        assertThat(zipped.sentimentAnalysis("Yes")).isEqualTo(analyzer.sentimentAnalysis("Yes"));
+    }
+
+    @Test
+    void analyzesBatchInInputOrder() {
+        assertThat(analyzer.analyzeBatch(Arrays.asList("Yes", "", "i think so", "No")))
+            .containsExactly(0.4019, null, -2.0, -0.296);
+    }
+}
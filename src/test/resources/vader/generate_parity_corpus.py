@@ -0,0 +1,33 @@
+# parity_corpus.tsv의 기대값을 NLTK의 sent_tokenize(학습된 Punkt 영어 모델)와 sentiment_analysis.py로 다시 계산한다.
+# 테스트용 사전(vader_lexicon.txt)을 사용하며, 주석 줄은 그대로 두고 unverified 표시는 지운다.
+#   pip install nltk==3.8.1 && python -m nltk.downloader punkt
+#   python src/test/resources/vader/generate_parity_corpus.py
+import os
+import sys
+
+HERE = os.path.dirname(os.path.abspath(__file__))
+sys.path.insert(0, os.path.join(HERE, "..", "..", "..", "main", "resources", "python"))
+
+from nltk.sentiment import SentimentIntensityAnalyzer
+
+from sentiment_analysis import sentiment_analysis
+
+
+def main():
+    sid = SentimentIntensityAnalyzer(lexicon_file="file:" + os.path.join(HERE, "vader_lexicon.txt"))
+    corpus = os.path.join(HERE, "parity_corpus.tsv")
+    lines = []
+    with open(corpus, encoding="utf-8") as f:
+        for line in f:
+            line = line.rstrip("\n")
+            if not line.strip() or line.startswith("#"):
+                lines.append(line)
+                continue
+            answer = line.split("\t")[0]
+            lines.append("%s\t%r" % (answer, sentiment_analysis(answer, sid)))
+    with open(corpus, "w", encoding="utf-8") as f:
+        f.write("\n".join(lines) + "\n")
+
+
+if __name__ == "__main__":
+    main()